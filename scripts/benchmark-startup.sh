@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta la primera petición atendida en cada modo de arranque.
+# Requisitos: PostgreSQL con el esquema migrado, el build de producción (./mvnw -P prod -DskipTests package)
+# y curl. Si existe target/employee-management (./mvnw -P native native:compile) también se mide el modo nativo.
+#
+# Uso: scripts/benchmark-startup.sh [repeticiones]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=9090
+FIRST_REQUEST_URL="http://localhost:${PORT}/employee-management/api/v1/employees/page?size=1"
+APP_DIR="target/application"
+JAR="$(cd "${APP_DIR}" && ls employee-management-*.jar | head -n 1)"
+NATIVE="target/employee-management"
+OUT_DIR="target/benchmarks/startup"
+mkdir -p "${OUT_DIR}"
+
+now_ms() { date +%s%3N; }
+
+# Arranca la aplicación, espera la primera respuesta 200 y devuelve "<ms hasta la primera petición> <Started in>"
+run_once() {
+  local mode="$1" log="$2"
+  shift 2
+  local start
+  start="$(now_ms)"
+  "$@" --spring.profiles.active=prod > "${log}" 2>&1 &
+  local pid=$!
+  until curl -sf -o /dev/null "${FIRST_REQUEST_URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "El modo ${mode} terminó antes de responder; ver ${log}" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  local elapsed=$(( $(now_ms) - start ))
+  kill "${pid}" && wait "${pid}" 2>/dev/null || true
+  local started
+  started="$(grep -oE 'Started .* in [0-9.]+ seconds' "${log}" | grep -oE '[0-9.]+ seconds' | cut -d' ' -f1)"
+  echo "${elapsed} ${started:-?}"
+}
+
+run_mode() {
+  local mode="$1"
+  shift
+  echo "==> Modo ${mode}"
+  : > "${OUT_DIR}/${mode}.runs"
+  for i in $(seq 1 "${RUNS}"); do
+    run_once "${mode}" "${OUT_DIR}/${mode}-${i}.log" "$@" >> "${OUT_DIR}/${mode}.runs"
+  done
+}
+
+(
+  cd "${APP_DIR}"
+  run_mode jit java -jar "${JAR}"
+  run_mode aot java -Dspring.aot.enabled=true -jar "${JAR}"
+  run_mode aot-cds java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "${JAR}"
+)
+if [[ -x "${NATIVE}" ]]; then
+  run_mode native "${NATIVE}"
+fi
+
+{
+  printf '%-8s %22s %22s\n' "modo" "primera petición (ms)" "Started in (s)"
+  for result in "${OUT_DIR}"/*.runs; do
+    mode="$(basename "${result}" .runs)"
+    median_ms="$(cut -d' ' -f1 "${result}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')"
+    median_started="$(cut -d' ' -f2 "${result}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')"
+    printf '%-8s %22s %22s\n' "${mode}" "${median_ms}" "${median_started}"
+  done
+} | tee "${OUT_DIR}/summary.txt"
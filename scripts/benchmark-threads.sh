@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compara hilos de plataforma vs hilos virtuales bajo la misma carga.
+# Requisitos: PostgreSQL con datos, el jar construido (./mvnw -DskipTests package) y `hey`
+# (https://github.com/rakyll/hey) en el PATH.
+#
+# Uso: scripts/benchmark-threads.sh [concurrencia] [duracion]
+set -euo pipefail
+
+CONCURRENCY="${1:-500}"
+DURATION="${2:-60s}"
+PORT=9090
+BASE_URL="http://localhost:${PORT}/employee-management/api/v1"
+JAR="$(ls target/employee-management-*.jar | head -n 1)"
+OUT_DIR="target/benchmarks/threads"
+mkdir -p "${OUT_DIR}"
+
+run_mode() {
+  local mode="$1" profile="$2"
+  echo "==> Modo ${mode}"
+  java -jar "${JAR}" --spring.profiles.active="${profile}" > "${OUT_DIR}/${mode}-app.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' RETURN
+
+  until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+
+  # Calentamiento para que el JIT y el pool de conexiones se estabilicen
+  hey -z 15s -c 50 "${BASE_URL}/employees/1" > /dev/null
+
+  hey -z "${DURATION}" -c "${CONCURRENCY}" "${BASE_URL}/employees/page?size=50" > "${OUT_DIR}/${mode}-page.txt"
+  hey -z "${DURATION}" -c "${CONCURRENCY}" "${BASE_URL}/employees/search?term=ana" > "${OUT_DIR}/${mode}-search.txt"
+
+  for metric in jvm.threads.live jvm.threads.peak hikaricp.connections.pending jvm.threads.virtual.pinned; do
+    curl -sf "${BASE_URL}/actuator/metrics/${metric}" > "${OUT_DIR}/${mode}-${metric}.json" || true
+  done
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+for mode in platform virtual; do
+  for scenario in page search; do
+    echo "--- ${mode} / ${scenario}"
+    grep -E "Requests/sec|Average|99% in|\[5[0-9][0-9]\]" "${OUT_DIR}/${mode}-${scenario}.txt" || true
+  done
+done
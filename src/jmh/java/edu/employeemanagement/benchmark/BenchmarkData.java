@@ -0,0 +1,34 @@
+package edu.employeemanagement.benchmark;
+
+import edu.employeemanagement.domain.entity.Employee;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 2, 19, 10, 0);
+
+    private BenchmarkData() {
+        throw new UnsupportedOperationException("Clase de utilidad no instanciable");
+    }
+
+    static List<Employee> employees(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            employees.add(Employee.builder()
+                    .idEmployee((long) i)
+                    .name("Nombre" + i)
+                    .lastname("Apellido" + i)
+                    .email("empleado" + i + "@example.com")
+                    .createdAt(BASE_DATE.plusMinutes(i))
+                    .updatedAt(BASE_DATE.plusMinutes(i).plusSeconds(30))
+                    .build());
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.employeemanagement.benchmark;
+
+import edu.employeemanagement.domain.dto.response.ApiResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static edu.employeemanagement.util.Constants.EMPLOYEES_RETRIEVED;
+
+/**
+ * Costo de CPU y memoria de {@link EmployeeMapper} y de construir el sobre {@link ApiResponseDTO}
+ * para distintos tamaños de lista.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    private int listSize;
+
+    private EmployeeMapper employeeMapper;
+    private Employee employee;
+    private List<Employee> employees;
+    private List<EmployeeResponseDTO> employeeResponseDTOs;
+
+    @Setup
+    public void setUp() {
+        employeeMapper = new EmployeeMapper();
+        employees = BenchmarkData.employees(listSize);
+        employee = employees.getFirst();
+        employeeResponseDTOs = employeeMapper.toEmployeeResponseList(employees);
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO toEmployeeResponseDTO() {
+        return employeeMapper.toEmployeeResponseDTO(employee);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> toEmployeeResponseList() {
+        return employeeMapper.toEmployeeResponseList(employees);
+    }
+
+    @Benchmark
+    public ApiResponseDTO<List<EmployeeResponseDTO>> apiResponseSuccess() {
+        return ApiResponseDTO.success(employeeResponseDTOs, EMPLOYEES_RETRIEVED);
+    }
+}
@@ -0,0 +1,109 @@
+package edu.employeemanagement.benchmark;
+
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import edu.employeemanagement.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.tool.schema.Action;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el listado de empleados cargando entidades administradas + {@link EmployeeMapper}
+ * contra la proyección que construye {@link EmployeeResponseDTO} directamente en JPQL
+ * ({@link EmployeeRepository#RESPONSE_DTO}). Usa Hibernate sobre H2 en memoria para aislar
+ * el costo de hidratación del costo de red de PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeReadPathBenchmark {
+
+    private static final String ENTITY_QUERY = "SELECT e FROM Employee e ORDER BY e.idEmployee";
+    private static final String PROJECTION_QUERY =
+            "SELECT " + EmployeeRepository.RESPONSE_DTO + " FROM Employee e ORDER BY e.idEmployee";
+
+    @Param({"100", "10000", "100000"})
+    private int listSize;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EmployeeMapper employeeMapper;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = new HibernatePersistenceConfiguration("read-path-benchmark")
+                .managedClass(Employee.class)
+                .jdbcUrl("jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1")
+                .jdbcCredentials("sa", "")
+                .schemaToolingAction(Action.CREATE_DROP)
+                .property("hibernate.jdbc.batch_size", 50)
+                .createEntityManagerFactory();
+        employeeMapper = new EmployeeMapper();
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        List<Employee> employees = BenchmarkData.employees(listSize);
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            employee.setIdEmployee(null);
+            entityManager.persist(employee);
+            if (i % 50 == 49) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    /**
+     * Camino anterior: entidades administradas en una transacción de solo lectura y luego el mapper.
+     */
+    @Benchmark
+    public List<EmployeeResponseDTO> entityHydration() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            // Equivalente a @Transactional(readOnly = true): sesión read-only sin flush
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            entityManager.getTransaction().begin();
+            List<Employee> employees = entityManager.createQuery(ENTITY_QUERY, Employee.class).getResultList();
+            List<EmployeeResponseDTO> result = employeeMapper.toEmployeeResponseList(employees);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Camino actual: el DTO se construye en la consulta, sin entidades en el contexto de persistencia.
+     */
+    @Benchmark
+    public List<EmployeeResponseDTO> dtoProjection() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<EmployeeResponseDTO> result = entityManager
+                    .createQuery(PROJECTION_QUERY, EmployeeResponseDTO.class)
+                    .getResultList();
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
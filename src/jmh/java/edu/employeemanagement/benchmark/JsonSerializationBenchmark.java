@@ -0,0 +1,57 @@
+package edu.employeemanagement.benchmark;
+
+import edu.employeemanagement.domain.dto.response.ApiResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static edu.employeemanagement.util.Constants.EMPLOYEES_RETRIEVED;
+import static edu.employeemanagement.util.Constants.EMPLOYEE_FOUND;
+
+/**
+ * Costo de serializar con Jackson las respuestas de empleados, incluyendo el formateo de
+ * {@code createdAt}/{@code updatedAt} con {@code @JsonFormat("dd/MM/yyyy HH:mm:ss")}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "100", "10000", "100000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseDTO<EmployeeResponseDTO> singleResponse;
+    private ApiResponseDTO<List<EmployeeResponseDTO>> listResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        List<EmployeeResponseDTO> employees = new EmployeeMapper().toEmployeeResponseList(BenchmarkData.employees(listSize));
+        singleResponse = ApiResponseDTO.success(employees.getFirst(), EMPLOYEE_FOUND);
+        listResponse = ApiResponseDTO.success(employees, EMPLOYEES_RETRIEVED);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() {
+        return objectMapper.writeValueAsBytes(singleResponse.data());
+    }
+
+    @Benchmark
+    public byte[] serializeSingleResponse() {
+        return objectMapper.writeValueAsBytes(singleResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeListResponse() {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+}
@@ -0,0 +1,189 @@
+package edu.employeemanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.employeemanagement.config.EmployeeCacheProperties;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.enums.EmployeeChangeType;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caché en memoria (read-through) de empleados indexada por ID y por email.
+ * El índice por email solo guarda el ID; el empleado se resuelve siempre desde el índice por ID
+ * y se descarta si su email ya no coincide, de modo que un cambio de email nunca deja
+ * una entrada obsoleta.
+ *
+ * <p>Las consultas read-through toman un sello de invalidación antes de leer la BD y guardan el
+ * resultado con {@link #putIfNotInvalidated}: si mientras tanto se confirmó un cambio sobre ese
+ * ID o email (incluida una eliminación, que no deja versión con la cual comparar), el resultado
+ * no se guarda.</p>
+ *
+ * <p>Las entradas se acotan por tamaño y tiempo de vida, y se mantienen al día con los
+ * eventos {@link EmployeeChangedEvent} una vez confirmada la transacción. Las métricas de
+ * aciertos/fallos se publican en Actuator como {@code cache.*{cache=employees.by-id|employees.by-email}}.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final Cache<Long, EmployeeResponseDTO> byId;
+    private final Cache<String, Long> byEmail;
+    // Contadores de invalidación por franja de llave (ID o email); una colisión solo evita guardar de más
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public EmployeeCache(EmployeeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.byId = buildCache(properties);
+        this.byEmail = buildCache(properties);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "employees.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "employees.by-email");
+    }
+
+    /**
+     * Busca un empleado en caché por su ID.
+     *
+     * @param id identificador del empleado
+     * @return Optional con el empleado si está en caché
+     */
+    public Optional<EmployeeResponseDTO> getById(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id));
+    }
+
+    /**
+     * Busca un empleado en caché por su email.
+     *
+     * @param email email del empleado
+     * @return Optional con el empleado si está en caché
+     */
+    public Optional<EmployeeResponseDTO> getByEmail(String email) {
+        Long id = byEmail.getIfPresent(email);
+        if (id == null) {
+            return Optional.empty();
+        }
+        EmployeeResponseDTO employee = byId.getIfPresent(id);
+        if (employee == null || !email.equals(employee.email())) {
+            byEmail.invalidate(email);
+            return Optional.empty();
+        }
+        return Optional.of(employee);
+    }
+
+    /**
+     * Guarda un empleado en ambos índices, salvo que la caché ya tenga una versión más reciente.
+     * <p>Una consulta que leyó la fila antes de un commit concurrente puede terminar después de que
+     * el evento de ese commit guardó la versión nueva; comparar versiones evita que la pisen.</p>
+     *
+     * @param employee empleado a guardar
+     */
+    public void put(EmployeeResponseDTO employee) {
+        EmployeeResponseDTO cached = byId.asMap().merge(employee.idEmployee(), employee, EmployeeCache::newer);
+        if (cached == employee) {
+            byEmail.put(employee.email(), employee.idEmployee());
+        }
+    }
+
+    /**
+     * Obtiene el sello de invalidación de una llave; se toma antes de consultar la BD.
+     *
+     * @param key ID o email consultado
+     * @return sello actual de la llave
+     */
+    public long invalidationStamp(Object key) {
+        return invalidations.get(stripe(key));
+    }
+
+    /**
+     * Guarda un empleado leído de la BD solo si ningún cambio sobre la llave consultada se confirmó
+     * desde que se tomó el sello.
+     *
+     * @param employee empleado leído
+     * @param key      ID o email con el que se consultó
+     * @param stamp    sello tomado antes de la consulta
+     */
+    public void putIfNotInvalidated(EmployeeResponseDTO employee, Object key, long stamp) {
+        if (invalidationStamp(key) != stamp) {
+            return;
+        }
+        put(employee);
+        // El evento pudo llegar entre la comprobación y el put; en ese caso se retira lo guardado
+        if (invalidationStamp(key) != stamp) {
+            byId.asMap().remove(employee.idEmployee(), employee);
+        }
+    }
+
+    /**
+     * Elimina un empleado de ambos índices.
+     *
+     * @param id identificador del empleado a eliminar
+     */
+    public void evict(Long id) {
+        EmployeeResponseDTO cached = byId.asMap().remove(id);
+        if (cached != null) {
+            byEmail.asMap().remove(cached.email(), id);
+        }
+    }
+
+    /**
+     * Aplica a la caché los cambios confirmados en la BD.
+     * <p>Los eventos AFTER_COMMIT de transacciones concurrentes pueden llegar desordenados, por lo que las
+     * altas y modificaciones pasan por la comparación de versiones de {@link #put}; solo una eliminación
+     * retira la entrada por ID.</p>
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        log.debug("Actualizando caché de empleados: {} ID: {}", event.type(), event.idEmployee());
+        invalidate(event.idEmployee());
+        if (event.previous() != null) {
+            invalidate(event.previous().email());
+        }
+        if (event.current() != null) {
+            invalidate(event.current().email());
+        }
+        if (event.type() == EmployeeChangeType.DELETED) {
+            evict(event.idEmployee());
+            return;
+        }
+        if (event.previous() != null && event.previous().email() != null
+                && !event.previous().email().equals(event.current().email())) {
+            byEmail.asMap().remove(event.previous().email(), event.idEmployee());
+        }
+        put(event.current());
+    }
+
+    private void invalidate(Object key) {
+        if (key != null) {
+            invalidations.incrementAndGet(stripe(key));
+        }
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    private static EmployeeResponseDTO newer(EmployeeResponseDTO cached, EmployeeResponseDTO loaded) {
+        return versionOf(loaded) >= versionOf(cached) ? loaded : cached;
+    }
+
+    private static long versionOf(EmployeeResponseDTO employee) {
+        return employee.version() == null ? -1L : employee.version();
+    }
+
+    private static <K, V> Cache<K, V> buildCache(EmployeeCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
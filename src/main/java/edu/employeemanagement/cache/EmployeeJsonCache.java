@@ -0,0 +1,96 @@
+package edu.employeemanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.employeemanagement.config.EmployeeCacheProperties;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.util.RawValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caché del JSON ya serializado (UTF-8) de cada empleado.
+ *
+ * <p>Evita que Jackson vuelva a recorrer y formatear ({@code dd/MM/yyyy HH:mm:ss}) el mismo
+ * {@link EmployeeResponseDTO} en cada respuesta: los controladores insertan los bytes en el
+ * sobre {@code ApiResponseDTO} como {@link RawValue}. Cada entrada guarda la versión y la fecha
+ * de modificación con que se serializó y solo se reutiliza si ambas coinciden con el DTO pedido,
+ * de modo que nunca se responde un JSON desactualizado. Las métricas se publican como
+ * {@code cache.*{cache=employees.json}}.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeJsonCache {
+
+    private final Cache<Long, Entry> byId;
+    private final ObjectWriter writer;
+
+    public EmployeeJsonCache(EmployeeCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize() * properties.averageJsonSize())
+                .weigher((Long id, Entry entry) -> entry.json().byteLength())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        this.writer = objectMapper.writerFor(EmployeeResponseDTO.class);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "employees.json");
+    }
+
+    /**
+     * Obtiene el JSON de un empleado, serializándolo solo si no está en caché o cambió.
+     *
+     * @param employee empleado a serializar
+     * @return valor JSON listo para insertarse en la respuesta
+     */
+    public RawValue toJson(EmployeeResponseDTO employee) {
+        Entry entry = byId.getIfPresent(employee.idEmployee());
+        if (entry == null || !entry.matches(employee)) {
+            entry = new Entry(employee.version(), employee.updatedAt(), new Utf8JsonValue(writer.writeValueAsBytes(employee)));
+            byId.put(employee.idEmployee(), entry);
+        }
+        return new RawValue(entry.json());
+    }
+
+    /**
+     * Obtiene el JSON de cada empleado de la lista, en el mismo orden.
+     *
+     * @param employees empleados a serializar
+     * @return valores JSON listos para insertarse en la respuesta
+     */
+    public List<RawValue> toJson(List<EmployeeResponseDTO> employees) {
+        List<RawValue> values = new ArrayList<>(employees.size());
+        for (EmployeeResponseDTO employee : employees) {
+            values.add(toJson(employee));
+        }
+        return values;
+    }
+
+    /**
+     * Descarta el JSON de un empleado modificado o eliminado una vez confirmada la transacción.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        log.debug("Descartando JSON en caché del empleado: {} ID: {}", event.type(), event.idEmployee());
+        byId.invalidate(event.idEmployee());
+    }
+
+    private record Entry(Long version, LocalDateTime updatedAt, Utf8JsonValue json) {
+
+        boolean matches(EmployeeResponseDTO employee) {
+            return Objects.equals(version, employee.version()) && Objects.equals(updatedAt, employee.updatedAt());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.config.SingleFlightProperties;
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las lecturas idénticas simultáneas del servicio de empleados (búsqueda por ID, por email
+ * y búsqueda por término) para que compartan una sola consulta a la BD.
+ *
+ * <p>Se aplica después de {@link EmployeeCache}: solo los fallos de caché llegan aquí. Cuando se
+ * confirma un cambio, las consultas en curso que podrían haberlo leído antes del commit se
+ * desvinculan, de modo que las llamadas posteriores no reciban el estado anterior. La consulta
+ * desvinculada sigue en curso, pero guarda su resultado con
+ * {@link EmployeeCache#putIfNotInvalidated}, así que no puede volver a poblar la caché con él.</p>
+ */
+@Component
+public class EmployeeReadCoalescer {
+
+    private final SingleFlight<Long, EmployeeResponseDTO> byId;
+    private final SingleFlight<String, EmployeeResponseDTO> byEmail;
+    private final SingleFlight<SearchKey, CursorPageDTO<EmployeeResponseDTO>> search;
+
+    public EmployeeReadCoalescer(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.byId = new SingleFlight<>("findEmployeeById", properties.enabled(), properties.timeout(), meterRegistry);
+        this.byEmail = new SingleFlight<>("findEmployeeByEmail", properties.enabled(), properties.timeout(), meterRegistry);
+        this.search = new SingleFlight<>("searchEmployees", properties.enabled(), properties.timeout(), meterRegistry);
+    }
+
+    /**
+     * Carga un empleado por ID compartiendo la consulta con las llamadas simultáneas.
+     *
+     * @param id     identificador del empleado
+     * @param loader consulta a la BD
+     * @return empleado encontrado
+     */
+    public EmployeeResponseDTO findById(Long id, Supplier<EmployeeResponseDTO> loader) {
+        return byId.execute(id, loader);
+    }
+
+    /**
+     * Carga un empleado por email compartiendo la consulta con las llamadas simultáneas.
+     *
+     * @param email  email del empleado
+     * @param loader consulta a la BD
+     * @return empleado encontrado
+     */
+    public EmployeeResponseDTO findByEmail(String email, Supplier<EmployeeResponseDTO> loader) {
+        return byEmail.execute(email, loader);
+    }
+
+    /**
+     * Ejecuta una búsqueda compartiéndola con las búsquedas simultáneas de la misma página.
+     *
+     * @param term   término de búsqueda normalizado
+     * @param offset posición de inicio
+     * @param size   tamaño de página
+     * @param loader búsqueda a ejecutar
+     * @return página de resultados
+     */
+    public CursorPageDTO<EmployeeResponseDTO> search(String term, int offset, int size,
+                                                     Supplier<CursorPageDTO<EmployeeResponseDTO>> loader) {
+        return search.execute(new SearchKey(term, offset, size), loader);
+    }
+
+    /**
+     * Desvincula las consultas en curso afectadas por un cambio confirmado: por ID, por el email
+     * anterior (cambio de email o eliminación) y por el actual.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        byId.forget(event.idEmployee());
+        if (event.previous() != null) {
+            byEmail.forget(event.previous().email());
+        }
+        if (event.current() != null) {
+            byEmail.forget(event.current().email());
+        }
+        search.forgetAll();
+    }
+
+    private record SearchKey(String term, int offset, int size) {
+    }
+}
@@ -0,0 +1,112 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Invalida la caché de segundo nivel de Hibernate ante escrituras que Hibernate no ve.
+ *
+ * <p>Las sentencias JPQL {@code UPDATE}/{@code DELETE} ya invalidan las regiones por sí solas, pero el
+ * upsert, la actualización y la eliminación de un empleado usan {@code RETURNING} y se ejecutan como
+ * consultas. Para ellas se repite lo que Hibernate hace con sus propias escrituras: antes de confirmar
+ * se bloquean (soft lock) solo las entradas afectadas, el empleado por ID y las resoluciones de su email
+ * anterior y actual, y se pre-invalidan las consultas sobre la tabla; al terminar la transacción se
+ * liberan. Una carga que empezó antes de la liberación no puede volver a guardar en la caché el estado
+ * anterior, y el resto de empleados y emails conserva sus entradas.</p>
+ */
+@Slf4j
+@Component
+public class HibernateCacheInvalidator {
+
+    private final EntityManager entityManager;
+    private final EntityPersister persister;
+    private final EntityDataAccess entityAccess;
+    private final NaturalIdDataAccess naturalIdAccess;
+    private final TimestampsCache timestampsCache;
+    private final String[] querySpaces;
+
+    public HibernateCacheInvalidator(EntityManagerFactory entityManagerFactory, EntityManager entityManager) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.entityManager = entityManager;
+        this.persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Employee.class);
+        this.entityAccess = persister.getCacheAccessStrategy();
+        this.naturalIdAccess = persister.getNaturalIdCacheAccessStrategy();
+        this.timestampsCache = sessionFactory.getCache().getTimestampsCache();
+        this.querySpaces = persister.getPropertySpaces();
+    }
+
+    /**
+     * Bloquea, antes de confirmar, las entradas de la caché de segundo nivel que cambian con la escritura
+     * y registra su liberación para cuando termine la transacción.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        log.debug("Bloqueando caché de segundo nivel: {} ID: {}", event.type(), event.idEmployee());
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Set<Object> emails = new LinkedHashSet<>();
+        if (event.previous() != null && event.previous().email() != null) {
+            emails.add(event.previous().email());
+        }
+        if (event.current() != null) {
+            emails.add(event.current().email());
+        }
+
+        LockedEntries locked = new LockedEntries(session);
+        if (entityAccess != null) {
+            locked.lock(entityAccess, entityAccess.generateCacheKey(event.idEmployee(), persister,
+                    session.getFactory(), session.getTenantIdentifier()));
+        }
+        if (naturalIdAccess != null) {
+            emails.forEach(email -> locked.lock(naturalIdAccess, naturalIdAccess.generateCacheKey(email, persister, session)));
+        }
+        timestampsCache.preInvalidate(querySpaces, session);
+        TransactionSynchronizationManager.registerSynchronization(locked);
+    }
+
+    /**
+     * Entradas bloqueadas por una escritura; se liberan al terminar la transacción, se confirme o no.
+     */
+    private final class LockedEntries implements TransactionSynchronization {
+
+        private final SharedSessionContractImplementor session;
+        private final Set<Locked> locks = new LinkedHashSet<>();
+
+        private LockedEntries(SharedSessionContractImplementor session) {
+            this.session = session;
+        }
+
+        private void lock(CachedDomainDataAccess access, Object key) {
+            locks.add(new Locked(access, key, access.lockItem(session, key, null)));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            locks.forEach(locked -> locked.access().unlockItem(session, locked.key(), locked.lock()));
+            timestampsCache.invalidate(querySpaces, session);
+        }
+    }
+
+    private record Locked(CachedDomainDataAccess access, Object key, SoftLock lock) {
+    }
+}
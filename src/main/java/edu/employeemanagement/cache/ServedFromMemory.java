@@ -0,0 +1,34 @@
+package edu.employeemanagement.cache;
+
+/**
+ * Marca por hilo de las llamadas al servicio resueltas en memoria (caché o índice), sin consultar la BD.
+ *
+ * <p>El servicio la activa con {@link #mark()} y quien mide la llamada la lee y la limpia con
+ * {@link #consume()}; así el servicio no depende de quien la usa (por ejemplo, el límite de concurrencia).</p>
+ */
+public final class ServedFromMemory {
+
+    private static final ThreadLocal<Boolean> SERVED_FROM_MEMORY = new ThreadLocal<>();
+
+    private ServedFromMemory() {
+        throw new UnsupportedOperationException("Clase de utilidad no instanciable");
+    }
+
+    /**
+     * Marca la llamada en curso del hilo actual como resuelta en memoria.
+     */
+    public static void mark() {
+        SERVED_FROM_MEMORY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Lee y limpia la marca del hilo actual.
+     *
+     * @return true si la llamada se marcó como resuelta en memoria
+     */
+    public static boolean consume() {
+        boolean served = SERVED_FROM_MEMORY.get() != null;
+        SERVED_FROM_MEMORY.remove();
+        return served;
+    }
+}
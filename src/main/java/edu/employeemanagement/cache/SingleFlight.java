@@ -0,0 +1,132 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.exception.InternalServerErrorException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static edu.employeemanagement.util.Constants.INTERNAL_ERROR_MESSAGE;
+import static edu.employeemanagement.util.Constants.SERVICE_OVERLOADED;
+
+/**
+ * Agrupa llamadas concurrentes con la misma clave en una sola ejecución.
+ *
+ * <p>La primera llamada (líder) ejecuta la carga en su propio hilo; las que llegan mientras
+ * está en curso esperan su resultado, o reciben la misma excepción si falla. Nada se guarda
+ * una vez terminada: no es una caché, solo evita consultas duplicadas simultáneas.</p>
+ *
+ * <p>La espera está acotada por {@code timeout}; al vencer se lanza
+ * {@link ServiceUnavailableException}. El líder no tiene límite propio (lo acota el timeout
+ * de la consulta).</p>
+ *
+ * <p>Métricas: {@code employees.singleflight.calls{operation, outcome=leader|coalesced}} y
+ * {@code employees.singleflight.timeouts{operation}}.</p>
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del resultado
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String operation, boolean enabled, Duration timeout, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.timeoutNanos = timeout.toNanos();
+        this.leaders = callCounter(operation, "leader", meterRegistry);
+        this.coalesced = callCounter(operation, "coalesced", meterRegistry);
+        this.timeouts = Counter.builder("employees.singleflight.timeouts")
+                .description("Llamadas que se cansaron de esperar una consulta en curso")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta {@code loader} o, si ya hay una ejecución en curso para {@code key}, espera su resultado.
+     *
+     * @param key    clave de la llamada
+     * @param loader carga a ejecutar si no hay otra en curso
+     * @return resultado de la carga
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Desvincula la ejecución en curso de {@code key}: las llamadas siguientes lanzan una carga nueva.
+     * Se usa cuando un cambio confirmado deja obsoleto lo que la ejecución en curso está leyendo.
+     *
+     * @param key clave a olvidar
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    /**
+     * Desvincula todas las ejecuciones en curso.
+     */
+    public void forgetAll() {
+        calls.clear();
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new InternalServerErrorException(INTERNAL_ERROR_MESSAGE, cause);
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            throw new ServiceUnavailableException(SERVICE_OVERLOADED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(SERVICE_OVERLOADED);
+        }
+    }
+
+    private static Counter callCounter(String operation, String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("employees.singleflight.calls")
+                .description("Lecturas por operación: ejecutadas (leader) o agrupadas con una en curso (coalesced)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
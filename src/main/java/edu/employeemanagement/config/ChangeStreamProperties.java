@@ -0,0 +1,21 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del flujo de cambios en tiempo real (GET /employees/stream).
+ *
+ * @param bufferCapacity cantidad de eventos recientes que se conservan para reanudar con Last-Event-ID
+ *                       (se redondea a potencia de 2); un suscriptor más atrasado que esto se desconecta
+ * @param timeout        duración máxima de una conexión; el cliente se reconecta y reanuda desde su último evento
+ * @param maxBatchSize   cantidad máxima de eventos enviados a un suscriptor en cada escritura
+ */
+@ConfigurationProperties(prefix = "app.stream")
+public record ChangeStreamProperties(
+        @DefaultValue("4096") int bufferCapacity,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("256") int maxBatchSize) {
+}
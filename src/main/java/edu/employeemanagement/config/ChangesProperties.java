@@ -0,0 +1,22 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la sincronización incremental (GET /employees/changes).
+ *
+ * @param defaultSize     cantidad de cambios por respuesta si el cliente no indica {@code size}
+ * @param maxSize         cantidad máxima de cambios por respuesta
+ * @param retention       tiempo que se conservan las marcas de eliminación
+ * @param compactionCron  expresión cron de la compactación de marcas de eliminación
+ */
+@ConfigurationProperties(prefix = "app.changes")
+public record ChangesProperties(
+        @DefaultValue("500") int defaultSize,
+        @DefaultValue("1000") int maxSize,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("0 30 3 * * *") String compactionCron) {
+}
@@ -0,0 +1,34 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades del límite de concurrencia adaptativo de la capa de servicio.
+ *
+ * @param enabled           activa el límite; si es false no se rechaza ninguna petición
+ * @param readInitialLimit  límite inicial de lecturas concurrentes
+ * @param readMinLimit      límite mínimo de lecturas concurrentes
+ * @param readMaxLimit      límite máximo de lecturas concurrentes
+ * @param writeInitialLimit límite inicial de escrituras concurrentes
+ * @param writeMinLimit     límite mínimo de escrituras concurrentes
+ * @param writeMaxLimit     límite máximo de escrituras concurrentes
+ * @param rttTolerance      cuánto puede crecer la latencia reciente sobre la de referencia antes de reducir el límite
+ * @param smoothing         peso de cada nuevo cálculo sobre el límite actual (0-1)
+ * @param shortWindow       cantidad de muestras promediadas en cada ajuste del límite (latencia reciente)
+ * @param longWindow        cantidad de muestras de la media móvil de la latencia de referencia
+ */
+@ConfigurationProperties(prefix = "app.concurrency")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") int readInitialLimit,
+        @DefaultValue("10") int readMinLimit,
+        @DefaultValue("400") int readMaxLimit,
+        @DefaultValue("20") int writeInitialLimit,
+        @DefaultValue("5") int writeMinLimit,
+        @DefaultValue("100") int writeMaxLimit,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("50") int shortWindow,
+        @DefaultValue("600") int longWindow) {
+}
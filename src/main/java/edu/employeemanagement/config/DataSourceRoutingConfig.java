@@ -0,0 +1,91 @@
+package edu.employeemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.employeemanagement.datasource.ReadYourWritesFilter;
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Enrutamiento de las transacciones de solo lectura a réplicas de PostgreSQL.
+ *
+ * <p>Solo se activa si hay al menos una réplica configurada ({@code app.datasource.replicas[0].url});
+ * en otro caso Spring Boot crea el datasource principal de siempre. El principal se construye con
+ * {@code spring.datasource.*} y {@code spring.datasource.hikari.*}. Cada pool publica sus métricas
+ * de Hikari como {@code hikaricp.*{pool=primary|replica-N}}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.replicas[0].url")
+public class DataSourceRoutingConfig {
+
+    private static final String REPLICA_POOL_PREFIX = "replica-";
+
+    /**
+     * Enrutador entre el pool principal y los de las réplicas. No es candidato por defecto para
+     * inyectar un {@link DataSource}: la aplicación usa el proxy {@link #dataSource}.
+     */
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricRegistry(meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> replicaList = replicaProperties.replicas();
+        for (int i = 0; i < replicaList.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaList.get(i);
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.url())
+                    .username(Objects.requireNonNullElse(replica.username(), dataSourceProperties.determineUsername()))
+                    .password(Objects.requireNonNullElse(replica.password(), dataSourceProperties.determinePassword()))
+                    .build();
+            String poolName = REPLICA_POOL_PREFIX + (i + 1);
+            replicaDataSource.setPoolName(poolName);
+            replicaDataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            replicaDataSource.setReadOnly(true);
+            replicaDataSource.setMetricRegistry(meterRegistry);
+            replicas.put(poolName, replicaDataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.maxReplicationLag(), meterRegistry);
+    }
+
+    /**
+     * Datasource de la aplicación: la conexión se pide al enrutador en la primera sentencia,
+     * cuando ya se sabe si la transacción es de solo lectura.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaDataSourceProperties replicaProperties) {
+        return new ReadYourWritesFilter(replicaProperties.readYourWritesWindow());
+    }
+}
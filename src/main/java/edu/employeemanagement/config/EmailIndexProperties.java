@@ -0,0 +1,18 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades del índice en memoria de emails (filtro de Bloom).
+ *
+ * @param expectedInsertions       cantidad de emails esperada
+ * @param falsePositiveProbability tasa de falsos positivos aceptada
+ * @param rebuildCron              expresión cron para reconstruir el filtro y descartar emails eliminados
+ */
+@ConfigurationProperties(prefix = "app.index.email")
+public record EmailIndexProperties(
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveProbability,
+        @DefaultValue("0 0 3 * * *") String rebuildCron) {
+}
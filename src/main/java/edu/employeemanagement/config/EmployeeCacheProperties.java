@@ -0,0 +1,21 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de configuración de la caché en memoria de empleados.
+ *
+ * @param maximumSize      cantidad máxima de empleados por índice (ID y email)
+ * @param expireAfterWrite tiempo de vida de cada entrada
+ * @param averageJsonSize  tamaño promedio estimado (bytes) del JSON de un empleado; junto con
+ *                         {@code maximumSize} acota la memoria de la caché de JSON serializado
+ */
+@ConfigurationProperties(prefix = "app.cache.employee")
+public record EmployeeCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite,
+        @DefaultValue("256") long averageJsonSize) {
+}
@@ -0,0 +1,32 @@
+package edu.employeemanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decide en tiempo de ejecución si las migraciones se aplican al arrancar.
+ *
+ * <p>Con Spring AOT, {@code spring.flyway.enabled} se evalúa al construir y ya no puede
+ * desactivarse al arrancar. Con {@code app.flyway.migrate-on-startup=false} Flyway no abre
+ * ninguna conexión: lo usa la ejecución de entrenamiento del archivo CDS (sin BD) y los
+ * despliegues que migran en un paso previo en lugar de hacerlo en cada pod.</p>
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                log.info("Migraciones omitidas al arrancar (app.flyway.migrate-on-startup=false)");
+            }
+        };
+    }
+}
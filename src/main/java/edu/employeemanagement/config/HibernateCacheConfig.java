@@ -0,0 +1,111 @@
+package edu.employeemanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import edu.employeemanagement.domain.entity.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Caché de segundo nivel de Hibernate en proceso (JCache sobre Caffeine), sin servicios externos.
+ *
+ * <p>Las regiones se crean aquí con su tamaño y tiempo de vida, y Hibernate recibe el
+ * {@link CacheManager} ya configurado. Cada región publica sus métricas de tamaño y
+ * aciertos/fallos como {@code cache.*{cache=hibernate.<región>}}; la configuración de las
+ * regiones se muestra en {@code /actuator/info}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheConfig {
+
+    private static final String METRICS_PREFIX = "hibernate.";
+
+    /**
+     * Crea el gestor JCache con las regiones de empleados, natural-id, consultas y marcas de tiempo.
+     * La región de marcas de tiempo no expira: Hibernate la usa para invalidar las consultas en caché.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties, MeterRegistry meterRegistry) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        regions(properties).forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false);
+            configuration.setNativeStatisticsEnabled(true);
+            region.maximumSize().ifPresent(size -> configuration.setMaximumSize(OptionalLong.of(size)));
+            if (region.timeToLive() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+            }
+            if (cacheManager.getCache(name) != null) {
+                cacheManager.destroyCache(name);
+            }
+            javax.cache.Cache<Object, Object> jcache = cacheManager.createCache(name, configuration);
+            @SuppressWarnings("unchecked")
+            Cache<Object, Object> cache = jcache.unwrap(Cache.class);
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, METRICS_PREFIX + name);
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Entrega a Hibernate el gestor JCache configurado y falla si alguna región no existe,
+     * en lugar de crearla sin límites.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Publica en {@code /actuator/info} el tamaño máximo y el tiempo de vida de cada región.
+     */
+    @Bean
+    public InfoContributor hibernateCacheInfoContributor(HibernateCacheProperties properties) {
+        return builder -> {
+            Map<String, Map<String, Object>> details = new LinkedHashMap<>();
+            regions(properties).forEach((name, region) -> {
+                Map<String, Object> regionDetails = new LinkedHashMap<>();
+                region.maximumSize().ifPresent(size -> regionDetails.put("maximumSize", size));
+                if (region.timeToLive() != null) {
+                    regionDetails.put("timeToLive", region.timeToLive().toString());
+                }
+                details.put(name, regionDetails);
+            });
+            builder.withDetail("hibernateCache", details);
+        };
+    }
+
+    static Map<String, Region> regions(HibernateCacheProperties properties) {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put(Employee.CACHE_REGION,
+                new Region(OptionalLong.of(properties.entityMaximumSize()), properties.entityTimeToLive()));
+        regions.put(Employee.NATURAL_ID_CACHE_REGION,
+                new Region(OptionalLong.of(properties.naturalIdMaximumSize()), properties.naturalIdTimeToLive()));
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                new Region(OptionalLong.of(properties.queryMaximumSize()), properties.queryTimeToLive()));
+        regions.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new Region(OptionalLong.empty(), null));
+        return regions;
+    }
+
+    record Region(OptionalLong maximumSize, Duration timeToLive) {
+    }
+}
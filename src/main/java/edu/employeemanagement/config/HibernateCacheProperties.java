@@ -0,0 +1,26 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las regiones de la caché de segundo nivel de Hibernate.
+ *
+ * @param entityMaximumSize       cantidad máxima de empleados en la región de la entidad
+ * @param entityTimeToLive        tiempo de vida de cada empleado en caché
+ * @param naturalIdMaximumSize    cantidad máxima de resoluciones email → ID
+ * @param naturalIdTimeToLive     tiempo de vida de cada resolución email → ID
+ * @param queryMaximumSize        cantidad máxima de resultados de consultas en caché
+ * @param queryTimeToLive         tiempo de vida de cada resultado de consulta
+ */
+@ConfigurationProperties(prefix = "app.cache.hibernate")
+public record HibernateCacheProperties(
+        @DefaultValue("10000") long entityMaximumSize,
+        @DefaultValue("10m") Duration entityTimeToLive,
+        @DefaultValue("10000") long naturalIdMaximumSize,
+        @DefaultValue("10m") Duration naturalIdTimeToLive,
+        @DefaultValue("1000") long queryMaximumSize,
+        @DefaultValue("5m") Duration queryTimeToLive) {
+}
@@ -0,0 +1,34 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propiedades de la importación masiva de empleados (POST /employees/import-jobs).
+ *
+ * @param directory         directorio donde se guardan los archivos recibidos y los reportes de fallos; debe
+ *                          ser compartido por todas las instancias para retomar trabajos y descargar reportes
+ * @param chunkSize         filas confirmadas por transacción (como máximo el tamaño de un lote)
+ * @param maxConcurrentJobs trabajos que se ejecutan a la vez, cada uno en un hilo virtual
+ * @param queueCapacity     trabajos que pueden esperar turno; por encima se responde 503
+ * @param retention         tiempo que se conservan el estado y el reporte de un trabajo finalizado
+ * @param cleanupCron       expresión cron de la limpieza de trabajos finalizados
+ * @param staleAfter        tiempo sin señales de vida tras el cual otra instancia retoma un trabajo sin terminar
+ * @param recoveryInterval  intervalo de la renovación de señales de vida y la búsqueda de trabajos abandonados
+ * @param maxBackoff        espera máxima entre reintentos de una porción rechazada por saturación (503)
+ */
+@ConfigurationProperties(prefix = "app.import")
+public record ImportProperties(
+        @DefaultValue("employee-imports") Path directory,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("2") int maxConcurrentJobs,
+        @DefaultValue("8") int queueCapacity,
+        @DefaultValue("24h") Duration retention,
+        @DefaultValue("0 0 * * * *") String cleanupCron,
+        @DefaultValue("5m") Duration staleAfter,
+        @DefaultValue("PT1M") Duration recoveryInterval,
+        @DefaultValue("30s") Duration maxBackoff) {
+}
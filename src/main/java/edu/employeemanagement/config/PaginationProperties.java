@@ -0,0 +1,16 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de configuración para la paginación por cursor (keyset).
+ *
+ * @param defaultSize tamaño de página cuando el cliente no envía uno
+ * @param maxSize     tamaño máximo de página permitido
+ */
+@ConfigurationProperties(prefix = "app.pagination")
+public record PaginationProperties(
+        @DefaultValue("50") int defaultSize,
+        @DefaultValue("500") int maxSize) {
+}
@@ -0,0 +1,40 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Propiedades de las réplicas de lectura. Si no hay réplicas configuradas, todas las
+ * transacciones usan el datasource principal ({@code spring.datasource.*}).
+ *
+ * @param replicas             réplicas que atienden las transacciones de solo lectura
+ * @param healthCheckInterval  frecuencia con que se verifica cada réplica
+ * @param maxReplicationLag    retraso máximo de replicación tolerado antes de sacar la réplica de rotación
+ * @param readYourWritesWindow tiempo durante el que las lecturas de un cliente van al principal después
+ *                             de una escritura suya (0 para desactivarlo)
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record ReplicaDataSourceProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("30s") Duration maxReplicationLag,
+        @DefaultValue("5s") Duration readYourWritesWindow) {
+
+    /**
+     * Conexión a una réplica.
+     *
+     * @param url             URL JDBC de la réplica
+     * @param username        usuario (por defecto el del datasource principal)
+     * @param password        contraseña (por defecto la del datasource principal)
+     * @param maximumPoolSize tamaño máximo del pool de conexiones de la réplica
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,15 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de la búsqueda de empleados por nombre/apellido.
+ *
+ * @param fallbackToDatabase si es true, mientras el índice en memoria se construye
+ *                           la búsqueda se resuelve con la consulta JPQL; si es false, se responde 503
+ */
+@ConfigurationProperties(prefix = "app.search")
+public record SearchProperties(
+        @DefaultValue("true") boolean fallbackToDatabase) {
+}
@@ -0,0 +1,19 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del agrupamiento (single-flight) de lecturas concurrentes idénticas.
+ *
+ * @param enabled si es false cada llamada ejecuta su propia consulta
+ * @param timeout tiempo máximo que una llamada espera el resultado de la consulta en curso;
+ *                al vencer se responde 503 en lugar de lanzar otra consulta sobre una BD ya lenta
+ */
+@ConfigurationProperties(prefix = "app.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration timeout) {
+}
@@ -0,0 +1,24 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propiedades de las estadísticas de empleados (GET /employees/stats).
+ *
+ * @param defaultDays   días de altas por día si el cliente no indica {@code days}
+ * @param maxDays       cantidad máxima de días de altas por día
+ * @param defaultMonths meses de altas por mes si el cliente no indica {@code months}
+ * @param maxMonths     cantidad máxima de meses de altas por mes
+ * @param topDomains    cantidad de dominios de email incluidos (los de más empleados)
+ * @param reconcileCron expresión cron de la reconciliación de los contadores con la BD
+ */
+@ConfigurationProperties(prefix = "app.stats")
+public record StatsProperties(
+        @DefaultValue("30") int defaultDays,
+        @DefaultValue("366") int maxDays,
+        @DefaultValue("12") int defaultMonths,
+        @DefaultValue("120") int maxMonths,
+        @DefaultValue("20") int topDomains,
+        @DefaultValue("0 */15 * * * *") String reconcileCron) {
+}
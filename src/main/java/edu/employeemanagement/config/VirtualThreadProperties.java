@@ -0,0 +1,17 @@
+package edu.employeemanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del modo de hilos virtuales.
+ *
+ * @param pinningThreshold duración mínima para registrar que un hilo virtual quedó
+ *                         fijado (pinned) a su hilo portador
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("5ms") Duration pinningThreshold) {
+}
@@ -1,15 +1,43 @@
 package edu.employeemanagement.controller;
 
+import edu.employeemanagement.cache.EmployeeJsonCache;
+import edu.employeemanagement.domain.dto.request.EmployeeLookupRequestDTO;
 import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
 import edu.employeemanagement.domain.dto.response.ApiResponseDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeChangesDTO;
 import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeStatsDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+import edu.employeemanagement.domain.dto.response.ImportJobDTO;
+import edu.employeemanagement.domain.dto.response.LookupItemResultDTO;
+import edu.employeemanagement.domain.dto.response.UpsertResultDTO;
+import edu.employeemanagement.domain.enums.ExportFormat;
+import edu.employeemanagement.service.interfaces.IEmployeeExportService;
+import edu.employeemanagement.service.interfaces.IEmployeeImportService;
 import edu.employeemanagement.service.interfaces.IEmployeeService;
+import edu.employeemanagement.service.interfaces.IEmployeeStatsService;
+import edu.employeemanagement.service.interfaces.IEmployeeSyncService;
+import edu.employeemanagement.stream.EmployeeChangeStream;
+import edu.employeemanagement.util.ETags;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.util.RawValue;
 
+import java.net.URI;
 import java.util.List;
 
 import static edu.employeemanagement.util.Constants.*;
@@ -20,10 +48,25 @@ import static edu.employeemanagement.util.Constants.*;
 public class EmployeeController {
 
     private final IEmployeeService employeeService;
+    private final IEmployeeExportService employeeExportService;
+    private final IEmployeeSyncService employeeSyncService;
+    private final EmployeeChangeStream employeeChangeStream;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final IEmployeeStatsService employeeStatsService;
+    private final IEmployeeImportService employeeImportService;
 
 
-    public EmployeeController(IEmployeeService employeeService) {
+    public EmployeeController(IEmployeeService employeeService, IEmployeeExportService employeeExportService,
+                              IEmployeeSyncService employeeSyncService, EmployeeChangeStream employeeChangeStream,
+                              EmployeeJsonCache employeeJsonCache, IEmployeeStatsService employeeStatsService,
+                              IEmployeeImportService employeeImportService) {
         this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeSyncService = employeeSyncService;
+        this.employeeChangeStream = employeeChangeStream;
+        this.employeeJsonCache = employeeJsonCache;
+        this.employeeStatsService = employeeStatsService;
+        this.employeeImportService = employeeImportService;
     }
 
 
@@ -44,39 +87,296 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Crea varios empleados en una sola petición
+     *
+     * @param employeeRequestDTOs datos de los empleados
+     * @return resultado por elemento (201 si todos fueron creados, 207 si hubo rechazos)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponseDTO<List<BatchItemResultDTO>>> createEmployeesBatch(
+            @RequestBody List<EmployeeRequestDTO> employeeRequestDTOs) {
+        List<BatchItemResultDTO> results = employeeService.createEmployeesBatch(employeeRequestDTOs);
+        long created = results.stream().filter(BatchItemResultDTO::isCreated).count();
+
+        ApiResponseDTO<List<BatchItemResultDTO>> response = ApiResponseDTO.success(
+                results,
+                String.format(EMPLOYEES_BATCH_PROCESSED, created, results.size() - created)
+        );
+
+        HttpStatus status = created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Obtiene varios empleados por ID y/o email en una sola petición
+     *
+     * @param lookupRequestDTO IDs y emails a buscar
+     * @return un resultado por elemento solicitado, en el orden de la petición
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ApiResponseDTO<List<LookupItemResultDTO>>> lookupEmployees(
+            @RequestBody EmployeeLookupRequestDTO lookupRequestDTO) {
+        List<LookupItemResultDTO> results = employeeService.lookupEmployees(lookupRequestDTO);
+        long found = results.stream().filter(LookupItemResultDTO::isFound).count();
+
+        ApiResponseDTO<List<LookupItemResultDTO>> response = ApiResponseDTO.success(
+                results,
+                String.format(EMPLOYEES_LOOKUP, found, results.size() - found)
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene todos los empleados
+     * <p>Si el ETag enviado en If-None-Match coincide con la versión actual del listado,
+     * responde 304 sin cargar los empleados. Cada empleado se escribe con su JSON en caché.</p>
      *
-     * @return lista de empleados
+     * @param webRequest petición actual, usada para evaluar If-None-Match
+     * @return lista de empleados, o 304 si no hubo cambios
      */
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<EmployeeResponseDTO>>> getAllEmployees() {
+    public ResponseEntity<ApiResponseDTO<List<RawValue>>> getAllEmployees(WebRequest webRequest) {
+        String eTag = employeeService.findEmployeesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<EmployeeResponseDTO> employees = employeeService.findAllEmployees();
 
-        ApiResponseDTO<List<EmployeeResponseDTO>> response = ApiResponseDTO.success(
-                employees,
+        ApiResponseDTO<List<RawValue>> response = ApiResponseDTO.success(
+                employeeJsonCache.toJson(employees),
                 EMPLOYEES_RETRIEVED
         );
 
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    /**
+     * Obtiene una página de empleados usando paginación por cursor
+     *
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param size   tamaño de página (opcional)
+     * @return página de empleados y cursor de la siguiente página
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponseDTO<List<RawValue>>> getEmployeesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<EmployeeResponseDTO> page = employeeService.findEmployeesPage(cursor, size);
+
+        ApiResponseDTO<List<RawValue>> response = ApiResponseDTO.success(
+                employeeJsonCache.toJson(page.content()),
+                EMPLOYEES_RETRIEVED,
+                page.nextCursor()
+        );
+
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Busca empleados por nombre o apellido
+     *
+     * @param term   término a buscar dentro del nombre o apellido
+     * @param cursor cursor devuelto en la página anterior (opcional)
+     * @param size   tamaño de página (opcional)
+     * @return página de empleados ordenados por relevancia y cursor de la siguiente página
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDTO<List<RawValue>>> searchEmployees(
+            @RequestParam String term,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<EmployeeResponseDTO> page = employeeService.searchEmployees(term, cursor, size);
+
+        ApiResponseDTO<List<RawValue>> response = ApiResponseDTO.success(
+                employeeJsonCache.toJson(page.content()),
+                EMPLOYEES_RETRIEVED,
+                page.nextCursor()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Sugiere empleados por prefijo de nombre, apellido o email
+     *
+     * @param prefix texto escrito por el usuario
+     * @param limit  cantidad máxima de sugerencias (opcional)
+     * @return sugerencias de empleados
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponseDTO<List<EmployeeSuggestionDTO>>> autocompleteEmployees(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        List<EmployeeSuggestionDTO> suggestions = employeeService.autocompleteEmployees(prefix, limit);
+
+        ApiResponseDTO<List<EmployeeSuggestionDTO>> response = ApiResponseDTO.success(
+                suggestions,
+                EMPLOYEES_RETRIEVED
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Exporta el directorio completo de empleados fila por fila
+     *
+     * @param format formato de salida: ndjson (por defecto) o csv
+     * @return cuerpo de respuesta escrito en streaming
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> employeeExportService.exportEmployees(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Recibe un CSV de empleados y lo importa en segundo plano
+     * <p>El encabezado debe incluir las columnas name, lastname y email (acepta el CSV de la
+     * exportación). El avance se consulta en la URL indicada en Location.</p>
+     *
+     * @param file archivo CSV (multipart, campo {@code file})
+     * @return trabajo de importación creado (202)
+     */
+    @PostMapping(value = "/import-jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponseDTO<ImportJobDTO>> submitImportJob(
+            @RequestParam(value = "file", required = false) MultipartFile file) {
+        ImportJobDTO job = employeeImportService.submitImport(file);
+
+        ApiResponseDTO<ImportJobDTO> response = ApiResponseDTO.success(
+                job,
+                String.format(IMPORT_JOB_ACCEPTED, job.id())
+        );
+
+        return ResponseEntity.accepted()
+                .location(URI.create("import-jobs/" + job.id()))
+                .body(response);
+    }
+
+    /**
+     * Obtiene el estado, el avance y el rendimiento de una importación
+     *
+     * @param jobId identificador del trabajo de importación
+     * @return estado de la importación
+     */
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<ApiResponseDTO<ImportJobDTO>> getImportJob(@PathVariable String jobId) {
+        ImportJobDTO job = employeeImportService.findImportJob(jobId);
+
+        ApiResponseDTO<ImportJobDTO> response = ApiResponseDTO.success(job, IMPORT_JOB_RETRIEVED);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Descarga el reporte de filas rechazadas de una importación finalizada
+     *
+     * @param jobId identificador del trabajo de importación
+     * @return CSV con línea, estado, email y mensaje de cada fila rechazada
+     */
+    @GetMapping("/import-jobs/{jobId}/failures")
+    public ResponseEntity<Resource> getImportJobFailures(@PathVariable String jobId) {
+        Resource report = new FileSystemResource(employeeImportService.findFailureReport(jobId));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("import-" + jobId + "-failures.csv")
+                        .build()
+                        .toString())
+                .body(report);
+    }
+
+    /**
+     * Obtiene los empleados creados, modificados y eliminados desde la última sincronización
+     * <p>Sin {@code since} devuelve todos los empleados (sincronización inicial). Mientras
+     * {@code hasMore} sea true, el cliente debe volver a pedir con {@code nextWatermark}.</p>
+     *
+     * @param since marca de agua de la sincronización anterior o fecha ISO-8601 (opcional)
+     * @param size  cantidad máxima de cambios (opcional)
+     * @return cambios y marca de agua de la siguiente sincronización
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponseDTO<EmployeeChangesDTO>> getEmployeeChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        EmployeeChangesDTO changes = employeeSyncService.findChangesSince(since, size);
+
+        ApiResponseDTO<EmployeeChangesDTO> response = ApiResponseDTO.success(
+                changes,
+                String.format(EMPLOYEES_CHANGES, changes.upserts().size(), changes.deletions().size())
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Obtiene el total de empleados, las altas por día y por mes y la distribución por dominio de email
+     *
+     * @param days   cantidad de días de altas por día (opcional)
+     * @param months cantidad de meses de altas por mes (opcional)
+     * @return estadísticas de empleados
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponseDTO<EmployeeStatsDTO>> getEmployeeStats(
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Integer months) {
+        EmployeeStatsDTO stats = employeeStatsService.getStats(days, months);
+
+        ApiResponseDTO<EmployeeStatsDTO> response = ApiResponseDTO.success(stats, EMPLOYEES_STATS);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Abre un flujo Server-Sent Events con las altas, modificaciones y bajas de empleados
+     * <p>Cada evento lleva un ID; al reconectarse, el navegador envía Last-Event-ID y el flujo
+     * continúa desde ese punto. Si ya no es posible, se envía un evento {@code reset}.</p>
+     *
+     * @param lastEventId último ID de evento recibido (opcional)
+     * @return emisor SSE
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployeeChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return employeeChangeStream.subscribe(lastEventId);
+    }
+
     /**
      * Obtiene un empleado por su ID
      *
-     * @param id identificador único del empleado
-     * @return el empleado encontrado
+     * <p>Si llega If-None-Match, solo se consulta la versión del empleado; cuando coincide
+     * responde 304 sin cargar la entidad ni construir la respuesta. El empleado se escribe
+     * con su JSON en caché.</p>
+     *
+     * @param id         identificador único del empleado
+     * @param webRequest petición actual, usada para evaluar If-None-Match
+     * @return el empleado encontrado, o 304 si no hubo cambios
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponseDTO<RawValue>> getEmployeeById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(employeeService.findEmployeeETag(id))) {
+            return null;
+        }
+
         EmployeeResponseDTO employeeResponseDTO = employeeService.findEmployeeById(id);
 
-        ApiResponseDTO<EmployeeResponseDTO> response = ApiResponseDTO.success(
-                employeeResponseDTO,
+        ApiResponseDTO<RawValue> response = ApiResponseDTO.success(
+                employeeJsonCache.toJson(employeeResponseDTO),
                 EMPLOYEE_FOUND
         );
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.forEmployee(employeeResponseDTO)).body(response);
     }
 
     /**
@@ -86,34 +386,86 @@ public class EmployeeController {
      * @return el empleado encontrado
      */
     @GetMapping("/by-email")
-    public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> getEmployeeByEmail(@RequestParam String email) {
+    public ResponseEntity<ApiResponseDTO<RawValue>> getEmployeeByEmail(@RequestParam String email) {
         EmployeeResponseDTO employeeResponseDTO = employeeService.findEmployeeByEmail(email);
 
-        ApiResponseDTO<EmployeeResponseDTO> response = ApiResponseDTO.success(
-                employeeResponseDTO,
+        ApiResponseDTO<RawValue> response = ApiResponseDTO.success(
+                employeeJsonCache.toJson(employeeResponseDTO),
                 EMPLOYEE_FOUND
         );
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Crea o actualiza un empleado por su email (upsert atómico)
+     *
+     * @param email              email del empleado
+     * @param employeeRequestDTO datos del empleado (su email debe coincidir con el de la URL)
+     * @return empleado resultante (201 si se creó, 200 si se actualizó)
+     */
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> upsertEmployeeByEmail(@PathVariable String email,
+                                                                                     @Valid @RequestBody EmployeeRequestDTO employeeRequestDTO) {
+        UpsertResultDTO result = employeeService.upsertEmployeeByEmail(email, employeeRequestDTO);
+
+        ApiResponseDTO<EmployeeResponseDTO> response = ApiResponseDTO.success(
+                result.employee(),
+                result.created() ? EMPLOYEE_CREATED : EMPLOYEE_UPDATED
+        );
+
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                .eTag(ETags.forEmployee(result.employee()))
+                .body(response);
+    }
+
+    /**
+     * Crea o actualiza por email varios empleados en una sola petición
+     *
+     * @param employeeRequestDTOs datos de los empleados
+     * @return resultado por elemento (200 si ninguno fue rechazado, 207 si hubo rechazos)
+     */
+    @PutMapping("/by-email")
+    public ResponseEntity<ApiResponseDTO<List<BatchItemResultDTO>>> upsertEmployeesBatch(
+            @RequestBody List<EmployeeRequestDTO> employeeRequestDTOs) {
+        List<BatchItemResultDTO> results = employeeService.upsertEmployeesBatch(employeeRequestDTOs);
+        long created = results.stream().filter(BatchItemResultDTO::isCreated).count();
+        long successful = results.stream().filter(BatchItemResultDTO::isSuccessful).count();
+
+        ApiResponseDTO<List<BatchItemResultDTO>> response = ApiResponseDTO.success(
+                results,
+                String.format(EMPLOYEES_BATCH_UPSERTED, created, successful - created, results.size() - successful)
+        );
+
+        HttpStatus status = successful == results.size() ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     /**
      * Actualiza un empleado existente
+     * <p>Con If-Match (ETag obtenido en el GET, una lista de ETags o {@code *}) la actualización solo se
+     * aplica si la versión actual del empleado es alguna de las indicadas; si no, responde 412.</p>
+     *
      * @param id identifcador unico del empleado
+     * @param ifMatch ETags de las versiones que el cliente acepta (opcional)
      * @param employeeRequestDTO nuevos datos del empleado
      * @return empleado actualizado
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> updateEmployee(@PathVariable Long id,
+                                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                                               @Valid @RequestBody EmployeeRequestDTO employeeRequestDTO) {
-        EmployeeResponseDTO employeeResponseDTO = employeeService.updateEmployee(id, employeeRequestDTO);
+        EmployeeResponseDTO employeeResponseDTO = employeeService.updateEmployee(
+                id, employeeRequestDTO, ETags.parseVersions(ifMatch, id));
 
         ApiResponseDTO<EmployeeResponseDTO> response = ApiResponseDTO.success(
                 employeeResponseDTO,
                 EMPLOYEE_UPDATED
         );
 
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(ETags.forEmployee(employeeResponseDTO))
+                .body(response);
     }
 
     /**
@@ -0,0 +1,230 @@
+package edu.employeemanagement.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Datasource que envía las transacciones de solo lectura a las réplicas y el resto al principal.
+ *
+ * <p>Debe usarse detrás de un {@code LazyConnectionDataSourceProxy}: la conexión real se pide
+ * en la primera sentencia, cuando Spring ya marcó la transacción como {@code readOnly}.
+ * Las réplicas se eligen en rotación entre las sanas; una réplica sale de rotación si no responde
+ * o si su retraso de replicación supera el máximo, y vuelve cuando la verificación periódica
+ * ({@link #checkReplicas()}) la encuentra sana. Sin réplicas sanas, o si el cliente acaba de
+ * escribir ({@link #requirePrimary()}), la lectura va al principal.</p>
+ *
+ * <p>Las lecturas que no toleran el retraso de una réplica (la sincronización incremental, cuya
+ * marca de agua saltaría cambios aún no replicados, o la reconciliación de contadores) se ejecutan
+ * con {@link #onPrimary(Supplier)}.</p>
+ *
+ * <ul>
+ *     <li>{@code employees.datasource.connections{pool}}: conexiones entregadas por cada pool</li>
+ *     <li>{@code employees.datasource.failover{pool}}: lecturas redirigidas al principal por una réplica caída</li>
+ *     <li>{@code employees.datasource.replica.healthy{pool}}: 1 si la réplica está en rotación</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    // Replay pendiente: retraso desde la última transacción aplicada; al día: 0 aunque el principal esté inactivo
+    private static final String REPLICATION_LAG_QUERY = "SELECT CASE " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Counter primaryConnections;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxReplicationLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration maxReplicationLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.primaryConnections = connectionCounter(meterRegistry, PRIMARY);
+        this.maxReplicationLag = maxReplicationLag;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, connectionCounter(meterRegistry, name),
+                    Counter.builder("employees.datasource.failover")
+                            .description("Lecturas redirigidas al principal porque la réplica no entregó una conexión")
+                            .tag("pool", name)
+                            .register(meterRegistry));
+            Gauge.builder("employees.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 si la réplica está en rotación para las lecturas")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+    }
+
+    /**
+     * Obliga a que las transacciones del hilo actual usen el principal (read-your-writes).
+     * Debe liberarse con {@link #releasePrimary()} al terminar la petición.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Libera la marca de {@link #requirePrimary()} del hilo actual.
+     */
+    public static void releasePrimary() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Ejecuta una acción con el principal como destino de sus lecturas, aunque la transacción sea de solo lectura.
+     * Respeta una marca ya activa en el hilo (por ejemplo, la de read-your-writes) y no la libera al terminar.
+     *
+     * @param action acción a ejecutar
+     * @param <T>    tipo del resultado
+     * @return resultado de la acción
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean alreadyRequired = PRIMARY_REQUIRED.get() != null;
+        requirePrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!alreadyRequired) {
+                releasePrimary();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Verifica cada réplica: la saca de rotación si no responde o si su retraso de replicación
+     * supera el máximo, y la devuelve cuando vuelve a estar al día.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                healthy = lagSeconds * 1000 <= maxReplicationLag.toMillis();
+                if (!healthy) {
+                    log.warn("Réplica {} con retraso de replicación de {}s; se saca de rotación", replica.name, lagSeconds);
+                }
+            } catch (SQLException ex) {
+                healthy = false;
+                log.warn("Réplica {} no disponible: {}", replica.name, ex.getMessage());
+            }
+            if (healthy && !replica.healthy) {
+                log.info("Réplica {} de vuelta en rotación", replica.name);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * Cierra los pools de conexiones del principal y de las réplicas.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection route(ConnectionSource connectionSource) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = connectionSource.getConnection(replica.dataSource);
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                failover(replica, ex);
+            }
+        }
+        primaryConnections.increment();
+        return connectionSource.getConnection(primary);
+    }
+
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_REQUIRED.get() != null) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void failover(Replica replica, SQLException ex) {
+        replica.healthy = false;
+        replica.failovers.increment();
+        log.warn("Réplica {} no entregó una conexión; se usa el principal: {}", replica.name, ex.getMessage());
+    }
+
+    private static Counter connectionCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("employees.datasource.connections")
+                .description("Conexiones entregadas por cada pool")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter connections;
+        private final Counter failovers;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource, Counter connections, Counter failovers) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = connections;
+            this.failovers = failovers;
+        }
+    }
+}
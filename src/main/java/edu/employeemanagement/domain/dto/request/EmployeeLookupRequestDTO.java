@@ -0,0 +1,24 @@
+package edu.employeemanagement.domain.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Petición de búsqueda múltiple de empleados por ID y/o email.
+ * Los resultados se devuelven en el mismo orden: primero los IDs y luego los emails.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeLookupRequestDTO {
+
+    List<Long> ids;
+
+    List<String> emails;
+
+}
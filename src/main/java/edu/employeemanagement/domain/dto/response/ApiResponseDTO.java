@@ -10,12 +10,13 @@ import java.util.Map;
 
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"success", "message", "errorCode", "data", "errors","timestamp", "path"})
+@JsonPropertyOrder({"success", "message", "errorCode", "data", "nextCursor", "errors", "timestamp", "path"})
 public record ApiResponseDTO<T>(
         boolean success,
         String message,
         String errorCode,
         T data,
+        String nextCursor,
         Map<String, String> errors,
         @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
         LocalDateTime timestamp,
@@ -40,6 +41,25 @@ public record ApiResponseDTO<T>(
                 .build();
     }
 
+    /**
+     * Crea una respuesta exitosa paginada por cursor.
+     *
+     * @param data datos de la página
+     * @param message mensaje descriptivo
+     * @param nextCursor cursor para solicitar la siguiente página (null si es la última)
+     * @param <T> tipo de datos
+     * @return ApiResponseDTO de éxito con datos y cursor
+     */
+    public static <T> ApiResponseDTO<T> success(T data, String message, String nextCursor) {
+        return ApiResponseDTO.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .nextCursor(nextCursor)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * Crea una respuesta exitosa sin datos (ej: DELETE).
      *
@@ -0,0 +1,90 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edu.employeemanagement.domain.enums.BatchItemStatus;
+import lombok.Builder;
+
+/**
+ * Resultado individual de un elemento procesado en un lote.
+ *
+ * @param index    posición del elemento en la petición original
+ * @param status   resultado del procesamiento
+ * @param email    email enviado en el elemento
+ * @param employee empleado creado o actualizado (solo cuando status es CREATED o UPDATED)
+ * @param message  detalle del error (solo cuando el elemento fue rechazado)
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"index", "status", "email", "employee", "message"})
+public record BatchItemResultDTO(
+        int index,
+        BatchItemStatus status,
+        String email,
+        EmployeeResponseDTO employee,
+        String message) {
+
+    /**
+     * Crea el resultado de un elemento creado exitosamente.
+     *
+     * @param index    posición del elemento en el lote
+     * @param employee empleado creado
+     * @return BatchItemResultDTO con estado CREATED
+     */
+    public static BatchItemResultDTO created(int index, EmployeeResponseDTO employee) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(BatchItemStatus.CREATED)
+                .email(employee.email())
+                .employee(employee)
+                .build();
+    }
+
+    /**
+     * Crea el resultado de un elemento que actualizó un empleado existente.
+     *
+     * @param index    posición del elemento en el lote
+     * @param employee empleado actualizado
+     * @return BatchItemResultDTO con estado UPDATED
+     */
+    public static BatchItemResultDTO updated(int index, EmployeeResponseDTO employee) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(BatchItemStatus.UPDATED)
+                .email(employee.email())
+                .employee(employee)
+                .build();
+    }
+
+    /**
+     * Crea el resultado de un elemento rechazado.
+     *
+     * @param index   posición del elemento en el lote
+     * @param status  motivo del rechazo
+     * @param email   email enviado
+     * @param message detalle del error
+     * @return BatchItemResultDTO con el estado de error indicado
+     */
+    public static BatchItemResultDTO rejected(int index, BatchItemStatus status, String email, String message) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .status(status)
+                .email(email)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * @return true si el elemento fue creado
+     */
+    public boolean isCreated() {
+        return status == BatchItemStatus.CREATED;
+    }
+
+    /**
+     * @return true si el elemento fue creado o actualizado
+     */
+    public boolean isSuccessful() {
+        return status == BatchItemStatus.CREATED || status == BatchItemStatus.UPDATED;
+    }
+}
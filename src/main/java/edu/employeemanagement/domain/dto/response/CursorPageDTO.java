@@ -0,0 +1,15 @@
+package edu.employeemanagement.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de resultados obtenida mediante paginación por cursor.
+ *
+ * @param content    elementos de la página
+ * @param nextCursor cursor opaco para solicitar la siguiente página o null si no hay más
+ * @param <T>        tipo de los elementos
+ */
+public record CursorPageDTO<T>(
+        List<T> content,
+        String nextCursor) {
+}
@@ -0,0 +1,21 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+/**
+ * Cambios de empleados desde una marca de agua.
+ *
+ * @param upserts       empleados creados o modificados (estado actual)
+ * @param deletions     empleados eliminados
+ * @param nextWatermark marca de agua a enviar como {@code since} en la siguiente sincronización
+ * @param hasMore       true si quedan cambios pendientes; el cliente debe volver a pedir de inmediato
+ */
+@JsonPropertyOrder({"upserts", "deletions", "nextWatermark", "hasMore"})
+public record EmployeeChangesDTO(
+        List<EmployeeResponseDTO> upserts,
+        List<TombstoneDTO> deletions,
+        String nextWatermark,
+        boolean hasMore) {
+}
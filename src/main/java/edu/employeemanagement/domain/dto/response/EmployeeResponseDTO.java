@@ -8,7 +8,7 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 @Builder
-@JsonPropertyOrder({"idEmployee", "name", "lastname", "email", "createdAt", "updateAt"})
+@JsonPropertyOrder({"idEmployee", "name", "lastname", "email", "createdAt", "updateAt", "version"})
 @JsonInclude(JsonInclude.Include.NON_NULL)  // ← No incluir campos null en JSON
 public record EmployeeResponseDTO(
         Long idEmployee,
@@ -18,5 +18,6 @@ public record EmployeeResponseDTO(
         @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
         LocalDateTime createdAt,
         @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        Long version) {
 }
@@ -0,0 +1,26 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Estadísticas de empleados para los tableros de RR. HH.
+ *
+ * @param headcount    cantidad total de empleados
+ * @param hiresByDay   altas por día ({@code yyyy-MM-dd}), en orden cronológico e incluyendo los días sin altas
+ * @param hiresByMonth altas por mes ({@code yyyy-MM}), en orden cronológico e incluyendo los meses sin altas
+ * @param emailDomains empleados por dominio de email, de mayor a menor
+ * @param reconciledAt fecha de la última reconciliación de los contadores con la BD
+ */
+@JsonPropertyOrder({"headcount", "hiresByDay", "hiresByMonth", "emailDomains", "reconciledAt"})
+public record EmployeeStatsDTO(
+        long headcount,
+        Map<String, Long> hiresByDay,
+        Map<String, Long> hiresByMonth,
+        Map<String, Long> emailDomains,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime reconciledAt) {
+}
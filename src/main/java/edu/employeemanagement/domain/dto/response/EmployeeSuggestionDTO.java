@@ -0,0 +1,20 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Sugerencia de empleado devuelta por el autocompletado.
+ * <p>Solo incluye los campos que muestra el selector de empleados.</p>
+ *
+ * @param idEmployee identificador del empleado
+ * @param name       nombre
+ * @param lastname   apellido
+ * @param email      email
+ */
+@JsonPropertyOrder({"idEmployee", "name", "lastname", "email"})
+public record EmployeeSuggestionDTO(
+        Long idEmployee,
+        String name,
+        String lastname,
+        String email) {
+}
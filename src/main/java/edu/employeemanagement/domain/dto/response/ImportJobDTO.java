@@ -0,0 +1,46 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edu.employeemanagement.domain.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Estado y avance de un trabajo de importación masiva.
+ *
+ * @param id            identificador del trabajo
+ * @param status        estado del trabajo
+ * @param fileName      nombre del archivo recibido
+ * @param progress      porcentaje del archivo leído (0 a 100)
+ * @param processedRows filas de datos procesadas
+ * @param createdRows   filas que crearon un empleado
+ * @param rejectedRows  filas rechazadas (validación o email duplicado), detalladas en el reporte de fallos
+ * @param rowsPerSecond filas procesadas por segundo desde el inicio del trabajo
+ * @param submittedAt   fecha de recepción del archivo
+ * @param startedAt     fecha de inicio del procesamiento
+ * @param finishedAt    fecha de finalización
+ * @param error         motivo de la interrupción (solo cuando status es FAILED)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "status", "fileName", "progress", "processedRows", "createdRows", "rejectedRows",
+        "rowsPerSecond", "submittedAt", "startedAt", "finishedAt", "error"})
+public record ImportJobDTO(
+        UUID id,
+        ImportJobStatus status,
+        String fileName,
+        int progress,
+        long processedRows,
+        long createdRows,
+        long rejectedRows,
+        long rowsPerSecond,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime submittedAt,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime startedAt,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime finishedAt,
+        String error) {
+}
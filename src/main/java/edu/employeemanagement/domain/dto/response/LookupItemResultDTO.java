@@ -0,0 +1,51 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edu.employeemanagement.domain.enums.LookupStatus;
+
+/**
+ * Resultado individual de una búsqueda múltiple.
+ *
+ * @param id       ID solicitado (solo si se buscó por ID)
+ * @param email    email solicitado (solo si se buscó por email)
+ * @param status   FOUND o NOT_FOUND
+ * @param employee empleado encontrado (solo cuando status es FOUND)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "email", "status", "employee"})
+public record LookupItemResultDTO(
+        Long id,
+        String email,
+        LookupStatus status,
+        EmployeeResponseDTO employee) {
+
+    /**
+     * @param id       ID solicitado
+     * @param employee empleado encontrado, o null
+     * @return resultado de la búsqueda por ID
+     */
+    public static LookupItemResultDTO forId(Long id, EmployeeResponseDTO employee) {
+        return new LookupItemResultDTO(id, null, statusOf(employee), employee);
+    }
+
+    /**
+     * @param email    email solicitado
+     * @param employee empleado encontrado, o null
+     * @return resultado de la búsqueda por email
+     */
+    public static LookupItemResultDTO forEmail(String email, EmployeeResponseDTO employee) {
+        return new LookupItemResultDTO(null, email, statusOf(employee), employee);
+    }
+
+    /**
+     * @return true si el empleado fue encontrado
+     */
+    public boolean isFound() {
+        return status == LookupStatus.FOUND;
+    }
+
+    private static LookupStatus statusOf(EmployeeResponseDTO employee) {
+        return employee != null ? LookupStatus.FOUND : LookupStatus.NOT_FOUND;
+    }
+}
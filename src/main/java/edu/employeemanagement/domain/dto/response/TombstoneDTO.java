@@ -0,0 +1,17 @@
+package edu.employeemanagement.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Empleado eliminado, informado por la sincronización incremental.
+ *
+ * @param idEmployee ID del empleado eliminado
+ * @param deletedAt  fecha de eliminación
+ */
+public record TombstoneDTO(
+        Long idEmployee,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime deletedAt) {
+}
@@ -0,0 +1,12 @@
+package edu.employeemanagement.domain.dto.response;
+
+/**
+ * Resultado de crear o actualizar un empleado por email.
+ *
+ * @param employee empleado resultante
+ * @param created  true si se creó, false si se actualizó
+ */
+public record UpsertResultDTO(
+        EmployeeResponseDTO employee,
+        boolean created) {
+}
@@ -4,7 +4,12 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,19 +17,31 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+@NaturalIdCache(region = Employee.NATURAL_ID_CACHE_REGION)
 @Builder
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_employees_change_xid", columnList = "change_xid, id_employee")})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class Employee {
 
+    /** Región de la caché de segundo nivel para los empleados por ID. */
+    public static final String CACHE_REGION = "employees";
+
+    /** Región de la caché de segundo nivel para la resolución email → ID. */
+    public static final String NATURAL_ID_CACHE_REGION = "employees-by-email";
+
     @Id
     @Column(name = "id_employee")
     @EqualsAndHashCode.Include
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     Long idEmployee;
 
     @Column(nullable = false, length = 50)
@@ -33,6 +50,7 @@ public class Employee {
     @Column(nullable = false, length = 50)
     String lastname;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, length = 100, unique = true)
     String email;
 
@@ -46,6 +64,17 @@ public class Employee {
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     LocalDateTime updatedAt;
 
+    // Bloqueo optimista: las actualizaciones solo se aplican si la versión no cambió
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    Long version;
+
+    // Transacción que escribió la fila; la asigna un trigger de la BD y solo la consulta la sincronización incremental
+    @ColumnDefault("0")
+    @Column(name = "change_xid", nullable = false, insertable = false, updatable = false)
+    Long changeXid;
+
     public Employee(String name, String lastname, String email) {
         this.name = name;
         this.lastname = lastname;
@@ -0,0 +1,83 @@
+package edu.employeemanagement.domain.entity;
+
+import edu.employeemanagement.domain.enums.ImportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Estado persistido de un trabajo de importación masiva (POST /employees/import-jobs). Lo consulta
+ * cualquier instancia y permite retomar un trabajo interrumpido desde su última porción confirmada.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "employee_import_jobs", indexes = {
+        @Index(name = "idx_employee_import_jobs_status", columnList = "status, heartbeat_at"),
+        @Index(name = "idx_employee_import_jobs_finished_at", columnList = "finished_at")})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class EmployeeImportJob {
+
+    @Id
+    @EqualsAndHashCode.Include
+    UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    ImportJobStatus status;
+
+    @Column(name = "file_name")
+    String fileName;
+
+    @Column(name = "total_bytes", nullable = false)
+    long totalBytes;
+
+    @Column(name = "bytes_read", nullable = false)
+    long bytesRead;
+
+    // Línea del CSV del último registro confirmado; al retomar se omiten los registros hasta ella
+    @Column(name = "committed_line", nullable = false)
+    long committedLine;
+
+    // Tamaño del reporte de fallos en la última porción confirmada; al retomar se descarta lo posterior
+    @Column(name = "report_bytes", nullable = false)
+    long reportBytes;
+
+    @Column(name = "processed_rows", nullable = false)
+    long processedRows;
+
+    @Column(name = "created_rows", nullable = false)
+    long createdRows;
+
+    @Column(name = "rejected_rows", nullable = false)
+    long rejectedRows;
+
+    @Column(name = "submitted_at", nullable = false)
+    LocalDateTime submittedAt;
+
+    @Column(name = "started_at")
+    LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    LocalDateTime finishedAt;
+
+    @Column(length = 500)
+    String error;
+
+    // Ejecución que tiene el trabajo; cada escritura posterior solo se aplica si sigue siendo la misma
+    @Column(nullable = false)
+    UUID owner;
+
+    // Última señal de vida de la ejecución; null si se liberó al detener la aplicación
+    @Column(name = "heartbeat_at")
+    LocalDateTime heartbeatAt;
+
+}
@@ -0,0 +1,39 @@
+package edu.employeemanagement.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca de eliminación de un empleado, usada por la sincronización incremental
+ * (GET /employees/changes) para informar las bajas. Se compacta tras el periodo de retención.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "employee_tombstones", indexes = {
+        @Index(name = "idx_employee_tombstones_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_employee_tombstones_change_xid", columnList = "change_xid, id_employee")})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class EmployeeTombstone {
+
+    @Id
+    @Column(name = "id_employee")
+    @EqualsAndHashCode.Include
+    Long idEmployee;
+
+    @Column(name = "deleted_at", nullable = false)
+    LocalDateTime deletedAt;
+
+    // Transacción que registró la eliminación; la asigna un trigger de la BD
+    @Column(name = "change_xid", nullable = false, insertable = false, updatable = false)
+    Long changeXid;
+
+}
@@ -0,0 +1,19 @@
+package edu.employeemanagement.domain.enums;
+
+/**
+ * Resultado del procesamiento de un elemento dentro de una operación por lotes.
+ */
+public enum BatchItemStatus {
+
+    /** El empleado fue creado. */
+    CREATED,
+
+    /** El empleado ya existía (mismo email) y fue actualizado. */
+    UPDATED,
+
+    /** El email ya existe en el sistema o se repite dentro del mismo lote. */
+    DUPLICATE_EMAIL,
+
+    /** El elemento no cumple las validaciones de {@code EmployeeRequestDTO}. */
+    VALIDATION_ERROR
+}
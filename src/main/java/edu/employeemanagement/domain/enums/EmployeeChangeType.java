@@ -0,0 +1,10 @@
+package edu.employeemanagement.domain.enums;
+
+/**
+ * Tipo de cambio aplicado sobre un empleado.
+ */
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
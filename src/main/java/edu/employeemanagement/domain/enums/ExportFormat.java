@@ -0,0 +1,49 @@
+package edu.employeemanagement.domain.enums;
+
+import edu.employeemanagement.exception.BadRequestException;
+
+import java.util.Arrays;
+
+import static edu.employeemanagement.util.Constants.INVALID_EXPORT_FORMAT;
+
+/**
+ * Formatos soportados para la exportación del directorio de empleados.
+ */
+public enum ExportFormat {
+
+    /** Un objeto JSON por línea (newline-delimited JSON). */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Valores separados por comas con encabezado. */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Obtiene el formato a partir del valor recibido en la petición (sin distinguir mayúsculas).
+     *
+     * @param value valor del parámetro format
+     * @return formato de exportación correspondiente
+     * @throws BadRequestException si el formato no está soportado
+     */
+    public static ExportFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(String.format(INVALID_EXPORT_FORMAT, value)));
+    }
+}
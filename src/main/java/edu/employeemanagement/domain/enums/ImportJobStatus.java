@@ -0,0 +1,19 @@
+package edu.employeemanagement.domain.enums;
+
+/**
+ * Estado de un trabajo de importación masiva de empleados.
+ */
+public enum ImportJobStatus {
+
+    /** El archivo fue recibido y el trabajo espera un hilo libre. */
+    QUEUED,
+
+    /** Las filas se están validando e insertando. */
+    RUNNING,
+
+    /** Se procesaron todas las filas; las rechazadas figuran en el reporte de fallos. */
+    COMPLETED,
+
+    /** El trabajo se interrumpió; las porciones ya confirmadas se conservan. */
+    FAILED
+}
@@ -0,0 +1,13 @@
+package edu.employeemanagement.domain.enums;
+
+/**
+ * Resultado de resolver un elemento de una búsqueda múltiple.
+ */
+public enum LookupStatus {
+
+    /** El empleado existe. */
+    FOUND,
+
+    /** No existe un empleado con el ID o email indicado. */
+    NOT_FOUND
+}
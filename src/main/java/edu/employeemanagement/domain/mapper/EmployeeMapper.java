@@ -3,6 +3,7 @@ package edu.employeemanagement.domain.mapper;
 import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
 import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
 import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.projection.EmployeeUpsertProjection;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -35,6 +36,28 @@ public class EmployeeMapper {
                 .email(employee.getEmail())
                 .createdAt(employee.getCreatedAt())
                 .updatedAt(employee.getUpdatedAt())
+                .version(employee.getVersion())
+                .build();
+    }
+
+    /**
+     * Convierte la fila devuelta por el upsert nativo a {@link EmployeeResponseDTO}.
+     *
+     * @param row fila devuelta por {@code INSERT ... ON CONFLICT ... RETURNING}.
+     * @return EmployeeResponseDTO resultante o null si la entrada es null.
+     */
+    public EmployeeResponseDTO toEmployeeResponseDTO(EmployeeUpsertProjection row) {
+        if (row == null) {
+            return null;
+        }
+        return EmployeeResponseDTO.builder()
+                .idEmployee(row.getIdEmployee())
+                .name(row.getName())
+                .lastname(row.getLastname())
+                .email(row.getEmail())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .version(row.getVersion())
                 .build();
     }
 
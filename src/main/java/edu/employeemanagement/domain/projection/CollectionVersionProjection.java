@@ -0,0 +1,19 @@
+package edu.employeemanagement.domain.projection;
+
+/**
+ * Marcas de agua de la tabla de empleados usadas como versión (ETag) del listado completo.
+ * Cualquier alta o modificación cambia la primera y cualquier baja, la segunda.
+ * Es una interfaz porque Spring Data solo proyecta consultas nativas sobre getters por alias.
+ */
+public interface CollectionVersionProjection {
+
+    /**
+     * @return mayor change_xid de los empleados, o 0 si no hay
+     */
+    Long getEmployeesXid();
+
+    /**
+     * @return mayor change_xid de las marcas de eliminación, o 0 si no hay
+     */
+    Long getTombstonesXid();
+}
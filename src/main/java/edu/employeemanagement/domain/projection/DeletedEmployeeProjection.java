@@ -0,0 +1,16 @@
+package edu.employeemanagement.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila devuelta por la eliminación nativa ({@code DELETE ... RETURNING}).
+ * Es una interfaz porque Spring Data solo proyecta consultas nativas sobre getters por alias.
+ */
+public interface DeletedEmployeeProjection {
+
+    Long getIdEmployee();
+
+    String getEmail();
+
+    LocalDateTime getCreatedAt();
+}
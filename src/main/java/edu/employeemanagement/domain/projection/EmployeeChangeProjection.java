@@ -0,0 +1,36 @@
+package edu.employeemanagement.domain.projection;
+
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Empleado creado o modificado, con la transacción que lo escribió; usada por la sincronización incremental
+ * para ordenar los cambios y construir la marca de agua.
+ *
+ * @param changeXid  ID de la transacción que escribió la fila
+ * @param idEmployee identificador del empleado
+ * @param name       nombre
+ * @param lastname   apellido
+ * @param email      email
+ * @param createdAt  fecha de creación
+ * @param updatedAt  fecha de modificación
+ * @param version    versión de bloqueo optimista
+ */
+public record EmployeeChangeProjection(
+        Long changeXid,
+        Long idEmployee,
+        String name,
+        String lastname,
+        String email,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version) {
+
+    /**
+     * @return el empleado como DTO de respuesta
+     */
+    public EmployeeResponseDTO toResponseDTO() {
+        return new EmployeeResponseDTO(idEmployee, name, lastname, email, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,14 @@
+package edu.employeemanagement.domain.projection;
+
+/**
+ * Proyección con los campos de {@code Employee} usados por el índice de búsqueda por nombre.
+ *
+ * @param idEmployee identificador del empleado
+ * @param name       nombre
+ * @param lastname   apellido
+ */
+public record EmployeeNameProjection(
+        Long idEmployee,
+        String name,
+        String lastname) {
+}
@@ -0,0 +1,17 @@
+package edu.employeemanagement.domain.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Cantidad de empleados por día de alta y dominio de email, usada para inicializar y
+ * reconciliar las estadísticas en memoria.
+ *
+ * @param hireDate día de alta ({@code createdAt})
+ * @param domain   dominio del email, en minúsculas
+ * @param total    cantidad de empleados
+ */
+public record EmployeeStatsRowProjection(
+        LocalDate hireDate,
+        String domain,
+        Long total) {
+}
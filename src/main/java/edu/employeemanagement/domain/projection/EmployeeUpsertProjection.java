@@ -0,0 +1,29 @@
+package edu.employeemanagement.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila devuelta por el upsert nativo ({@code INSERT ... ON CONFLICT ... RETURNING}).
+ * Es una interfaz porque Spring Data solo proyecta consultas nativas sobre getters por alias.
+ */
+public interface EmployeeUpsertProjection {
+
+    Long getIdEmployee();
+
+    String getName();
+
+    String getLastname();
+
+    String getEmail();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+
+    /**
+     * @return true si la fila se insertó, false si se actualizó un empleado existente
+     */
+    Boolean getInserted();
+}
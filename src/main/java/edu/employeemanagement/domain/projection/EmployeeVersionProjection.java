@@ -0,0 +1,12 @@
+package edu.employeemanagement.domain.projection;
+
+/**
+ * Proyección con los campos de {@code Employee} que determinan su versión (ETag).
+ *
+ * @param idEmployee identificador del empleado
+ * @param version    versión de bloqueo optimista
+ */
+public record EmployeeVersionProjection(
+        Long idEmployee,
+        Long version) {
+}
@@ -0,0 +1,54 @@
+package edu.employeemanagement.event;
+
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.enums.EmployeeChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado por el servicio de empleados cada vez que un empleado se crea, actualiza o elimina.
+ * <p>Los componentes en memoria (caché, índices, etc.) lo escuchan con
+ * {@code @TransactionalEventListener} para aplicar el cambio solo después del commit.
+ * Las escrituras son sentencias únicas que no leen la fila antes; del estado anterior solo se conoce
+ * lo que la propia sentencia devuelve ({@link Previous}), suficiente para las estadísticas.</p>
+ *
+ * @param type       tipo de cambio
+ * @param idEmployee ID del empleado afectado
+ * @param current    estado nuevo del empleado (null en DELETED)
+ * @param previous   email y fecha de alta antes del cambio (null en CREATED)
+ */
+public record EmployeeChangedEvent(
+        EmployeeChangeType type,
+        Long idEmployee,
+        EmployeeResponseDTO current,
+        Previous previous) {
+
+    public static EmployeeChangedEvent created(EmployeeResponseDTO current) {
+        return new EmployeeChangedEvent(EmployeeChangeType.CREATED, current.idEmployee(), current, null);
+    }
+
+    /**
+     * Actualización que no cambia el email (p. ej. el upsert, cuya llave es el email).
+     */
+    public static EmployeeChangedEvent updated(EmployeeResponseDTO current) {
+        return updated(current, current.email());
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponseDTO current, String previousEmail) {
+        return new EmployeeChangedEvent(EmployeeChangeType.UPDATED, current.idEmployee(), current,
+                new Previous(previousEmail, current.createdAt()));
+    }
+
+    public static EmployeeChangedEvent deleted(Long idEmployee, String email, LocalDateTime createdAt) {
+        return new EmployeeChangedEvent(EmployeeChangeType.DELETED, idEmployee, null, new Previous(email, createdAt));
+    }
+
+    /**
+     * Datos del empleado antes del cambio.
+     *
+     * @param email     email anterior
+     * @param createdAt fecha de alta
+     */
+    public record Previous(String email, LocalDateTime createdAt) {
+    }
+}
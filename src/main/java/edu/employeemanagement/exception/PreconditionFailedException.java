@@ -0,0 +1,21 @@
+package edu.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+import static edu.employeemanagement.util.Constants.PRECONDITION_FAILED;
+
+/**
+ * Excepción para peticiones condicionales cuya condición no se cumple (412).
+ * Se lanza cuando ningún ETag de If-Match corresponde a la versión actual del recurso.
+ */
+public class PreconditionFailedException extends ApiException {
+
+    /**
+     * Constructor con mensaje de error.
+     *
+     * @param message descripción de la condición que no se cumplió
+     */
+    public PreconditionFailedException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED, PRECONDITION_FAILED);
+    }
+}
@@ -0,0 +1,21 @@
+package edu.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+import static edu.employeemanagement.util.Constants.SERVICE_UNAVAILABLE;
+
+/**
+ * Excepción para peticiones rechazadas por saturación (503).
+ * Se lanza cuando el límite de concurrencia está completo; el cliente puede reintentar.
+ */
+public class ServiceUnavailableException extends ApiException {
+
+    /**
+     * Constructor con mensaje de error.
+     *
+     * @param message descripción del rechazo
+     */
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE);
+    }
+}
@@ -2,8 +2,10 @@ package edu.employeemanagement.handler;
 
 import edu.employeemanagement.domain.dto.response.ApiResponseDTO;
 import edu.employeemanagement.exception.ApiException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -43,6 +45,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(response);
     }
 
+    /**
+     * Maneja los rechazos del límite de concurrencia (503).
+     *
+     * <p>Se registra en debug para no inundar el log justo cuando el servicio está saturado,
+     * y se indica al cliente cuándo reintentar con {@code Retry-After}.</p>
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleServiceUnavailable(ServiceUnavailableException ex,
+                                                                         HttpServletRequest request) {
+        log.debug("Petición rechazada por saturación - Path: {}", request.getRequestURI());
+        ApiResponseDTO<Void> response = ApiResponseDTO.<Void>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .errorCode(ex.getErrorCode())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
     /**
      * Maneja errores de validación de Bean Validation (@Valid).
      *
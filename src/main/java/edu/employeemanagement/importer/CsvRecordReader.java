@@ -0,0 +1,114 @@
+package edu.employeemanagement.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV (RFC 4180) que entrega un registro a la vez, con memoria constante.
+ *
+ * <p>Admite campos entre comillas con comas, comillas dobles ({@code ""}) y saltos de línea, y
+ * finales de línea {@code \n} o {@code \r\n}. Cada campo se recorta a {@link #MAX_FIELD_LENGTH}
+ * caracteres: ningún campo válido de un empleado se acerca a ese largo, así que un campo recortado
+ * igual se rechaza en la validación, y una comilla sin cerrar no puede cargar el archivo en memoria.
+ * Por la misma razón, un registro conserva como máximo {@link #MAX_FIELDS} campos y descarta el resto:
+ * una línea de solo comas no puede acumular millones de campos vacíos.</p>
+ */
+public final class CsvRecordReader implements Closeable {
+
+    static final int MAX_FIELD_LENGTH = 1024;
+    static final int MAX_FIELDS = 64;
+
+    private final BufferedReader reader;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lee el siguiente registro.
+     *
+     * @return campos del registro, o null al final del archivo
+     * @throws IOException si falla la lectura
+     */
+    public List<String> next() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean quotedField = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    quoted = false;
+                    continue;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(field, c);
+            } else if (c == '"' && field.isEmpty() && !quotedField) {
+                quoted = true;
+                quotedField = true;
+            } else if (c == ',') {
+                addField(fields, field);
+                field.setLength(0);
+                quotedField = false;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                addField(fields, field);
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * @return número de línea del archivo donde empieza el último registro leído
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static void addField(List<String> fields, StringBuilder field) {
+        if (fields.size() < MAX_FIELDS) {
+            fields.add(field.toString());
+        }
+    }
+
+    private static void append(StringBuilder field, int c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        }
+    }
+}
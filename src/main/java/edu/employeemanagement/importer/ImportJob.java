@@ -0,0 +1,57 @@
+package edu.employeemanagement.importer;
+
+import edu.employeemanagement.domain.entity.EmployeeImportJob;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ejecución en curso de un trabajo de importación en esta instancia. Parte del último avance
+ * confirmado del trabajo y lo lleva al día porción a porción; el estado que ven las consultas es el
+ * persistido en {@link EmployeeImportJob}.
+ */
+@Getter
+public final class ImportJob {
+
+    private final UUID id;
+    private final UUID owner;
+    private final Path source;
+    private final Path failureReport;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private volatile long committedLine;
+    private volatile long reportBytes;
+    private volatile long processedRows;
+    private volatile long createdRows;
+    private volatile long rejectedRows;
+
+    public ImportJob(EmployeeImportJob state, Path source, Path failureReport) {
+        this.id = state.getId();
+        this.owner = state.getOwner();
+        this.source = source;
+        this.failureReport = failureReport;
+        this.committedLine = state.getCommittedLine();
+        this.reportBytes = state.getReportBytes();
+        this.processedRows = state.getProcessedRows();
+        this.createdRows = state.getCreatedRows();
+        this.rejectedRows = state.getRejectedRows();
+    }
+
+    /**
+     * Avanza hasta una porción ya confirmada.
+     *
+     * @param line     línea del último registro de la porción
+     * @param report   tamaño del reporte de fallos después de la porción
+     * @param created  filas creadas en la porción
+     * @param rejected filas rechazadas en la porción
+     */
+    public void advance(long line, long report, long created, long rejected) {
+        committedLine = line;
+        reportBytes = report;
+        processedRows += created + rejected;
+        createdRows += created;
+        rejectedRows += rejected;
+    }
+}
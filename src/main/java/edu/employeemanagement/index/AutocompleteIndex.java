@@ -0,0 +1,179 @@
+package edu.employeemanagement.index;
+
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice de autocompletado por prefijo de nombre, apellido o email basado en {@link PrefixIndex}.
+ *
+ * <p>Se construye al iniciar la aplicación y se mantiene al día con los eventos
+ * {@link EmployeeChangedEvent}, de modo que las sugerencias nunca consultan la BD. Los cambios
+ * se acumulan en el delta del índice y se compactan en la base periódicamente.</p>
+ *
+ * <p>La compactación solo incorpora los cambios de esta instancia, así que el índice también se
+ * reconstruye periódicamente desde el principal en una instancia nueva que reemplaza a la actual
+ * al terminar; un fallo en la construcción inicial se reintenta en la siguiente. Como en
+ * {@link NameIndex}, los eventos confirmados durante la construcción se aplican a ambos índices y
+ * tienen prioridad sobre las filas leídas por el cursor.</p>
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Serializa los eventos con la carga de cada fila y con el reemplazo del índice
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    private volatile PrefixIndex prefixIndex = new PrefixIndex();
+    private volatile PrefixIndex building;
+    private volatile boolean ready;
+
+    public AutocompleteIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Obtiene sugerencias de empleados por prefijo.
+     *
+     * @param prefix prefijo de nombre, apellido o email
+     * @param limit  cantidad máxima de sugerencias
+     * @return sugerencias en orden alfabético
+     */
+    public List<EmployeeSuggestionDTO> search(String prefix, int limit) {
+        return prefixIndex.search(prefix, limit);
+    }
+
+    /**
+     * Construye el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el índice desde el principal para incorporar los cambios de otras instancias.
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval:PT10M}",
+            initialDelayString = "${app.autocomplete.rebuild-interval:PT10M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        PrefixIndex next = new PrefixIndex();
+        swapLock.lock();
+        try {
+            changedDuringBuild.clear();
+            building = next;
+        } finally {
+            swapLock.unlock();
+        }
+        try {
+            ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<EmployeeSuggestionDTO> employees = employeeRepository.streamAllSuggestions()) {
+                    employees.forEach(employee -> {
+                        swapLock.lock();
+                        try {
+                            if (!changedDuringBuild.contains(employee.idEmployee())) {
+                                next.load(employee);
+                            }
+                        } finally {
+                            swapLock.unlock();
+                        }
+                    });
+                }
+                return null;
+            }));
+            next.compact();
+            swapLock.lock();
+            try {
+                prefixIndex = next;
+                building = null;
+                changedDuringBuild.clear();
+            } finally {
+                swapLock.unlock();
+            }
+            ready = true;
+            log.info("Índice de autocompletado construido: {} empleados en {} ms",
+                    next.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            swapLock.lock();
+            try {
+                building = null;
+                changedDuringBuild.clear();
+            } finally {
+                swapLock.unlock();
+            }
+            log.error("No fue posible construir el índice de autocompletado; se reintentará en la siguiente reconstrucción", ex);
+        }
+    }
+
+    /**
+     * Incorpora a la base los cambios acumulados desde la última compactación.
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.compaction-interval:PT30S}")
+    public void compact() {
+        PrefixIndex current = prefixIndex;
+        if (ready && current.pendingChanges() > 0) {
+            current.compact();
+        }
+    }
+
+    /**
+     * Aplica al índice (y al que se esté construyendo) los cambios confirmados en la BD.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        swapLock.lock();
+        try {
+            apply(prefixIndex, event);
+            PrefixIndex next = building;
+            if (next != null) {
+                changedDuringBuild.add(event.idEmployee());
+                apply(next, event);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private static void apply(PrefixIndex index, EmployeeChangedEvent event) {
+        EmployeeResponseDTO current = event.current();
+        if (current != null) {
+            index.put(new EmployeeSuggestionDTO(current.idEmployee(), current.name(), current.lastname(), current.email()));
+        } else {
+            index.remove(event.idEmployee());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package edu.employeemanagement.index;
+
+import edu.employeemanagement.config.EmailIndexProperties;
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice probabilístico de los emails registrados.
+ *
+ * <p>Permite descartar sin consultar la BD los emails que definitivamente no existen.
+ * Solo los posibles aciertos deben confirmarse con {@code existsByEmail}; la restricción
+ * única sobre {@code employees.email} sigue siendo la garantía final.</p>
+ *
+ * <p>El filtro se construye al iniciar la aplicación y se reconstruye periódicamente,
+ * ya que un filtro de Bloom no permite eliminar elementos. Mientras no está listo,
+ * {@link #mightContain(String)} devuelve siempre true.</p>
+ *
+ * <p>La reconstrucción lee del principal: una réplica con retraso omitiría los emails recientes.
+ * Se usan {@link ReentrantLock} y no monitores porque la lectura por streaming bloquea en JDBC
+ * y un monitor retenido fija el hilo virtual a su hilo portador.</p>
+ */
+@Slf4j
+@Component
+public class EmailIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmailIndexProperties properties;
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Serializa add() con el intercambio de filtros para no perder emails confirmados durante el cambio
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    public EmailIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                      EmailIndexProperties properties, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.negativeCounter = Counter.builder("employees.email.index")
+                .description("Consultas de email resueltas por el filtro de Bloom")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("employees.email.index")
+                .description("Consultas de email que requieren confirmar en la BD")
+                .tag("result", "positive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indica si el email pudo haber sido registrado.
+     *
+     * @param email email a consultar
+     * @return false si el email definitivamente no existe en la BD
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current == null || email == null) {
+            return true;
+        }
+        boolean result = current.mightContain(email);
+        (result ? positiveCounter : negativeCounter).increment();
+        return result;
+    }
+
+    /**
+     * Registra un email en el índice.
+     *
+     * @param email email a agregar
+     */
+    public void add(String email) {
+        swapLock.lock();
+        try {
+            BloomFilter next = building;
+            if (next != null) {
+                next.put(email);
+            }
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(email);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * Construye el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el filtro desde la BD para descartar los emails eliminados o modificados.
+     */
+    @Scheduled(cron = "${app.index.email.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        BloomFilter next = new BloomFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+        // Los emails confirmados mientras se recorre la tabla se agregan también al nuevo filtro
+        setBuilding(next);
+        AtomicLong count = new AtomicLong();
+        try {
+            ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+                    emails.forEach(email -> {
+                        next.put(email);
+                        count.incrementAndGet();
+                    });
+                }
+                return null;
+            }));
+            swapLock.lock();
+            try {
+                filter = next;
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            log.info("Índice de emails construido: {} emails, {} bits, {} funciones hash en {} ms",
+                    count.get(), next.bitSize(), next.hashFunctions(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.error("No fue posible construir el índice de emails; se consultará la BD en cada validación", ex);
+            setBuilding(null);
+        }
+    }
+
+    private void setBuilding(BloomFilter next) {
+        swapLock.lock();
+        try {
+            building = next;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * Agrega al índice los emails de los empleados creados o actualizados una vez confirmada la transacción.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.current() != null) {
+            add(event.current().email());
+        }
+    }
+}
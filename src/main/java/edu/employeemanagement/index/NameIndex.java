@@ -0,0 +1,174 @@
+package edu.employeemanagement.index;
+
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.projection.EmployeeNameProjection;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice de búsqueda por nombre y apellido basado en {@link TrigramIndex}.
+ *
+ * <p>Se construye al iniciar la aplicación recorriendo la tabla con un cursor y se mantiene
+ * al día con los eventos {@link EmployeeChangedEvent}. Los eventos solo informan los cambios
+ * de esta instancia, así que el índice se reconstruye periódicamente desde el principal (una
+ * réplica con retraso omitiría los cambios recientes) en una instancia nueva que reemplaza a la
+ * actual al terminar; un fallo en la construcción inicial se reintenta en la siguiente.</p>
+ *
+ * <p>Los cambios confirmados durante la construcción se aplican a ambos índices y tienen prioridad
+ * sobre las filas leídas por el cursor: la comprobación y la carga de cada fila se hacen bajo el
+ * mismo bloqueo que la aplicación de los eventos.</p>
+ */
+@Slf4j
+@Component
+public class NameIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Serializa los eventos con la carga de cada fila y con el reemplazo del índice
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    private volatile TrigramIndex trigramIndex = new TrigramIndex();
+    private volatile TrigramIndex building;
+    private volatile boolean ready;
+
+    public NameIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @return true cuando el índice terminó de construirse
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Busca empleados por subcadena de nombre o apellido.
+     *
+     * @param term   término de búsqueda
+     * @param offset cantidad de resultados a omitir
+     * @param limit  cantidad máxima de resultados
+     * @return IDs ordenados por relevancia
+     */
+    public List<Long> search(String term, int offset, int limit) {
+        return trigramIndex.search(term, offset, limit);
+    }
+
+    /**
+     * Construye el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el índice desde el principal para incorporar los cambios de otras instancias.
+     */
+    @Scheduled(fixedDelayString = "${app.search.index-rebuild-interval:PT10M}",
+            initialDelayString = "${app.search.index-rebuild-interval:PT10M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            load();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        TrigramIndex next = new TrigramIndex();
+        swapLock.lock();
+        try {
+            changedDuringBuild.clear();
+            building = next;
+        } finally {
+            swapLock.unlock();
+        }
+        try {
+            ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<EmployeeNameProjection> employees = employeeRepository.streamAllNames()) {
+                    employees.forEach(employee -> {
+                        swapLock.lock();
+                        try {
+                            if (!changedDuringBuild.contains(employee.idEmployee())) {
+                                next.load(employee.idEmployee(), employee.name(), employee.lastname());
+                            }
+                        } finally {
+                            swapLock.unlock();
+                        }
+                    });
+                }
+                return null;
+            }));
+            next.compact();
+            swapLock.lock();
+            try {
+                trigramIndex = next;
+                building = null;
+                changedDuringBuild.clear();
+            } finally {
+                swapLock.unlock();
+            }
+            ready = true;
+            log.info("Índice de búsqueda por nombre construido: {} empleados en {} ms",
+                    next.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            swapLock.lock();
+            try {
+                building = null;
+                changedDuringBuild.clear();
+            } finally {
+                swapLock.unlock();
+            }
+            log.error("No fue posible construir el índice de búsqueda; se reintentará en la siguiente reconstrucción", ex);
+        }
+    }
+
+    /**
+     * Aplica al índice (y al que se esté construyendo) los cambios confirmados en la BD.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        swapLock.lock();
+        try {
+            apply(trigramIndex, event);
+            TrigramIndex next = building;
+            if (next != null) {
+                changedDuringBuild.add(event.idEmployee());
+                apply(next, event);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private static void apply(TrigramIndex index, EmployeeChangedEvent event) {
+        if (event.current() != null) {
+            index.put(event.current().idEmployee(), event.current().name(), event.current().lastname());
+        } else {
+            index.remove(event.idEmployee());
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package edu.employeemanagement.index;
+
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Índice de claves ordenadas para autocompletar por prefijo.
+ *
+ * <p>Cada empleado se indexa por su nombre, apellido, nombre completo y email en minúsculas. La
+ * mayor parte del índice es una base inmutable de dos arreglos paralelos ordenados por clave
+ * ({@code String[]} con claves internadas, de modo que los nombres repetidos comparten la misma
+ * instancia, y {@code long[]} con el ID de cada una). Una búsqueda por prefijo es una búsqueda
+ * binaria seguida de un recorrido que se detiene en la primera clave que no coincide o al
+ * completar el límite: su costo depende de N y no del tamaño de la tabla.</p>
+ *
+ * <p>Los cambios posteriores a la base se guardan en un delta ordenado y los IDs cambiados se
+ * marcan para ignorar sus claves de la base. {@link #compact()} reconstruye la base sin bloquear
+ * a las escrituras durante el ordenamiento y vacía el delta.</p>
+ */
+public class PrefixIndex {
+
+    private final Map<Long, EmployeeSuggestionDTO> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> delta = new ConcurrentSkipListMap<>();
+    // IDs cuyas claves de la base ya no son válidas (modificados o eliminados después de construirla)
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+    private volatile Base base = Base.EMPTY;
+
+    /**
+     * Agrega o reemplaza un empleado en el índice; queda visible de inmediato en el delta.
+     *
+     * @param suggestion datos del empleado
+     */
+    public synchronized void put(EmployeeSuggestionDTO suggestion) {
+        EmployeeSuggestionDTO entry = intern(suggestion);
+        stale.add(entry.idEmployee());
+        removeFromDelta(entries.put(entry.idEmployee(), entry));
+        for (String key : keysOf(entry)) {
+            delta.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(entry.idEmployee());
+        }
+    }
+
+    /**
+     * Agrega un empleado sin indexarlo hasta la siguiente {@link #compact()}; se usa en la carga inicial
+     * para no pasar cada empleado por el delta.
+     *
+     * @param suggestion datos del empleado
+     */
+    public void load(EmployeeSuggestionDTO suggestion) {
+        entries.putIfAbsent(suggestion.idEmployee(), intern(suggestion));
+    }
+
+    /**
+     * Elimina un empleado del índice.
+     *
+     * @param id identificador del empleado
+     */
+    public synchronized void remove(long id) {
+        stale.add(id);
+        removeFromDelta(entries.remove(id));
+    }
+
+    /**
+     * Reconstruye la base con los empleados actuales y descarta del delta lo que ya quedó en ella.
+     */
+    public void compact() {
+        Map<Long, EmployeeSuggestionDTO> snapshot;
+        synchronized (this) {
+            snapshot = new HashMap<>(entries);
+        }
+        Base rebuilt = Base.of(snapshot);
+
+        synchronized (this) {
+            base = rebuilt;
+            // Solo siguen en el delta los empleados que cambiaron mientras se ordenaba la base
+            for (Iterator<Long> it = stale.iterator(); it.hasNext(); ) {
+                Long id = it.next();
+                EmployeeSuggestionDTO current = entries.get(id);
+                if (current == snapshot.get(id)) {
+                    removeFromDelta(current);
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return cantidad de empleados indexados
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return cantidad de empleados cambiados desde la última compactación
+     */
+    public int pendingChanges() {
+        return stale.size();
+    }
+
+    /**
+     * Obtiene los primeros empleados cuyo nombre, apellido o email comienza con el prefijo,
+     * en orden alfabético de la clave que coincide.
+     *
+     * @param prefix prefijo a buscar
+     * @param limit  cantidad máxima de sugerencias
+     * @return sugerencias sin repetir empleados
+     */
+    public List<EmployeeSuggestionDTO> search(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        Base current = base;
+        Set<Long> ids = new LinkedHashSet<>();
+
+        int position = current.lowerBound(normalizedPrefix);
+        Iterator<Map.Entry<String, Set<Long>>> changes = delta.tailMap(normalizedPrefix).entrySet().iterator();
+        Map.Entry<String, Set<Long>> change = nextMatch(changes, normalizedPrefix);
+
+        // Mezcla de la base y el delta, ambos en orden de clave
+        while (ids.size() < limit) {
+            boolean baseMatches = position < current.keys.length && current.keys[position].startsWith(normalizedPrefix);
+            if (!baseMatches && change == null) {
+                break;
+            }
+            if (baseMatches && (change == null || current.keys[position].compareTo(change.getKey()) <= 0)) {
+                long id = current.ids[position++];
+                if (!stale.contains(id)) {
+                    ids.add(id);
+                }
+            } else {
+                for (Long id : change.getValue()) {
+                    ids.add(id);
+                    if (ids.size() >= limit) {
+                        break;
+                    }
+                }
+                change = nextMatch(changes, normalizedPrefix);
+            }
+        }
+
+        return ids.stream()
+                .map(entries::get)
+                .filter(suggestion -> suggestion != null)
+                .toList();
+    }
+
+    private static Map.Entry<String, Set<Long>> nextMatch(Iterator<Map.Entry<String, Set<Long>>> changes,
+                                                          String prefix) {
+        if (changes.hasNext()) {
+            Map.Entry<String, Set<Long>> next = changes.next();
+            return next.getKey().startsWith(prefix) ? next : null;
+        }
+        return null;
+    }
+
+    private void removeFromDelta(EmployeeSuggestionDTO previous) {
+        if (previous == null) {
+            return;
+        }
+        for (String key : keysOf(previous)) {
+            Set<Long> ids = delta.get(key);
+            if (ids != null) {
+                ids.remove(previous.idEmployee());
+                if (ids.isEmpty()) {
+                    delta.remove(key);
+                }
+            }
+        }
+    }
+
+    private static EmployeeSuggestionDTO intern(EmployeeSuggestionDTO suggestion) {
+        return new EmployeeSuggestionDTO(suggestion.idEmployee(), internOrNull(suggestion.name()),
+                internOrNull(suggestion.lastname()), suggestion.email());
+    }
+
+    private static String internOrNull(String value) {
+        return value == null ? null : value.intern();
+    }
+
+    /**
+     * Claves de un empleado, sin repetir (el nombre y el apellido pueden coincidir).
+     */
+    static Set<String> keysOf(EmployeeSuggestionDTO suggestion) {
+        String name = normalize(suggestion.name());
+        String lastname = normalize(suggestion.lastname());
+        Set<String> keys = new LinkedHashSet<>(4);
+        keys.add(name.intern());
+        keys.add(lastname.intern());
+        keys.add(name + " " + lastname);
+        keys.add(normalize(suggestion.email()));
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Arreglos paralelos ordenados por clave y, dentro de la misma clave, por ID.
+     */
+    private static final class Base {
+
+        private static final Base EMPTY = new Base(new String[0], new long[0]);
+
+        private final String[] keys;
+        private final long[] ids;
+
+        private Base(String[] keys, long[] ids) {
+            this.keys = keys;
+            this.ids = ids;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Base of(Map<Long, EmployeeSuggestionDTO> employees) {
+            Map.Entry<String, Long>[] pairs = employees.values().stream()
+                    .flatMap(employee -> keysOf(employee).stream().map(key -> Map.entry(key, employee.idEmployee())))
+                    .toArray(Map.Entry[]::new);
+            Arrays.parallelSort(pairs, Map.Entry.<String, Long>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+
+            String[] keys = new String[pairs.length];
+            long[] ids = new long[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                keys[i] = pairs[i].getKey();
+                ids[i] = pairs[i].getValue();
+            }
+            return new Base(keys, ids);
+        }
+
+        /**
+         * @return posición de la primera clave mayor o igual al prefijo
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
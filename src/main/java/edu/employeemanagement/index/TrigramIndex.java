@@ -0,0 +1,472 @@
+package edu.employeemanagement.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Índice invertido de trigramas sobre el nombre y apellido de los empleados.
+ *
+ * <p>Cada trigrama (tres caracteres consecutivos, en minúsculas) apunta a los IDs que lo
+ * contienen. Una búsqueda por subcadena intersecta las listas de sus trigramas, empezando por la
+ * más corta, y verifica los candidatos con {@code contains}, lo que equivale a
+ * {@code LOWER(name) LIKE '%term%'} sin recorrer toda la tabla.</p>
+ *
+ * <p>Como en {@link PrefixIndex}, la mayor parte del índice es una base inmutable: las listas de
+ * cada trigrama son arreglos {@code long[]} ordenados (8 bytes por aparición, sin objetos por ID) y
+ * los nombres y apellidos, dos arreglos paralelos ordenados. Los cambios posteriores se guardan en un
+ * delta y los IDs cambiados se marcan para ignorarlos en la base; {@link #compact()} reconstruye la
+ * base y vacía el delta.</p>
+ *
+ * <p>Los resultados se ordenan por relevancia: coincidencia exacta, luego prefijo y luego
+ * subcadena; a igual relevancia, primero los nombres más cortos y el ID menor. Solo se conservan
+ * los offset + limit mejores en un montículo acotado, sin ordenar todos los aciertos.</p>
+ *
+ * <p>Un término de menos de tres caracteres no tiene trigramas y como subcadena coincide con casi
+ * todos los empleados, así que solo se busca como prefijo: se recorren en orden alfabético los
+ * nombres y apellidos (la coincidencia exacta queda primera) y se detiene al completar la página,
+ * con un costo que depende de offset + limit y no del tamaño de la tabla.</p>
+ */
+public class TrigramIndex {
+
+    private static final int SCORE_EXACT = 3;
+    private static final int SCORE_PREFIX = 2;
+    private static final int SCORE_CONTAINS = 1;
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt(Hit::length)
+            .thenComparingLong(Hit::id);
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> deltaPostings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> deltaValues = new ConcurrentSkipListMap<>();
+    // IDs cuyas entradas de la base ya no son válidas (modificados o eliminados después de construirla)
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+
+    private volatile Base base = Base.EMPTY;
+
+    /**
+     * Agrega o reemplaza un empleado en el índice; queda visible de inmediato en el delta.
+     *
+     * @param id       identificador del empleado
+     * @param name     nombre
+     * @param lastname apellido
+     */
+    public synchronized void put(long id, String name, String lastname) {
+        Document document = new Document(normalize(name), normalize(lastname));
+        stale.add(id);
+        removeFromDelta(id, documents.put(id, document));
+        for (long trigram : document.trigrams()) {
+            deltaPostings.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String value : document.values()) {
+            deltaValues.computeIfAbsent(value, key -> new ConcurrentSkipListSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Agrega un empleado sin indexarlo hasta la siguiente {@link #compact()}; se usa en la carga inicial
+     * para no pasar cada empleado por el delta.
+     *
+     * @param id       identificador del empleado
+     * @param name     nombre
+     * @param lastname apellido
+     */
+    public void load(long id, String name, String lastname) {
+        documents.putIfAbsent(id, new Document(normalize(name), normalize(lastname)));
+    }
+
+    /**
+     * Elimina un empleado del índice.
+     *
+     * @param id identificador del empleado
+     */
+    public synchronized void remove(long id) {
+        stale.add(id);
+        removeFromDelta(id, documents.remove(id));
+    }
+
+    /**
+     * Reconstruye la base con los empleados actuales y descarta del delta lo que ya quedó en ella.
+     */
+    public void compact() {
+        Map<Long, Document> snapshot;
+        synchronized (this) {
+            snapshot = new HashMap<>(documents);
+        }
+        Base rebuilt = Base.of(snapshot);
+
+        synchronized (this) {
+            base = rebuilt;
+            // Solo siguen en el delta los empleados que cambiaron mientras se construía la base
+            for (Iterator<Long> it = stale.iterator(); it.hasNext(); ) {
+                Long id = it.next();
+                Document current = documents.get(id);
+                if (current == snapshot.get(id)) {
+                    removeFromDelta(id, current);
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param id identificador del empleado
+     * @return true si el empleado está indexado
+     */
+    public boolean contains(long id) {
+        return documents.containsKey(id);
+    }
+
+    /**
+     * @return cantidad de empleados indexados
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Busca los empleados cuyo nombre o apellido contiene el término o, si tiene menos de tres
+     * caracteres, comienza con él.
+     *
+     * @param term   término de búsqueda
+     * @param offset cantidad de resultados a omitir
+     * @param limit  cantidad máxima de resultados a devolver
+     * @return IDs de los empleados ordenados por relevancia
+     */
+    public List<Long> search(String term, int offset, int limit) {
+        String normalizedTerm = normalize(term);
+        if (normalizedTerm.length() < TRIGRAM_LENGTH) {
+            return searchByPrefix(normalizedTerm, offset, limit);
+        }
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        if (wanted == 0) {
+            return List.of();
+        }
+        // Montículo con el peor de los mejores en la cima
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        Set<Long> trigrams = trigrams(normalizedTerm);
+        Base current = base;
+        for (long id : current.candidates(trigrams)) {
+            if (!stale.contains(id)) {
+                offer(top, wanted, id, normalizedTerm);
+            }
+        }
+        for (long id : deltaCandidates(trigrams)) {
+            offer(top, wanted, id, normalizedTerm);
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits.stream()
+                .skip(offset)
+                .map(Hit::id)
+                .toList();
+    }
+
+    private void offer(PriorityQueue<Hit> top, int wanted, long id, String term) {
+        Document document = documents.get(id);
+        if (document == null) {
+            return;
+        }
+        int score = document.score(term);
+        if (score == 0) {
+            return;
+        }
+        Hit hit = new Hit(id, score, document.length());
+        if (top.size() < wanted) {
+            top.add(hit);
+        } else if (RANKING.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    /**
+     * @return IDs de los empleados con un nombre o apellido que comienza con el prefijo, en orden
+     * alfabético de ese valor y, para el mismo valor, por ID
+     */
+    private List<Long> searchByPrefix(String prefix, int offset, int limit) {
+        long wanted = (long) offset + limit;
+        Base current = base;
+        Set<Long> ids = new LinkedHashSet<>();
+
+        int position = current.lowerBound(prefix);
+        Iterator<Map.Entry<String, Set<Long>>> changes = deltaValues.tailMap(prefix).entrySet().iterator();
+        Map.Entry<String, Set<Long>> change = nextMatch(changes, prefix);
+
+        // Mezcla de la base y el delta, ambos en orden alfabético
+        while (ids.size() < wanted) {
+            boolean baseMatches = position < current.values.length && current.values[position].startsWith(prefix);
+            if (!baseMatches && change == null) {
+                break;
+            }
+            if (baseMatches && (change == null || current.values[position].compareTo(change.getKey()) <= 0)) {
+                long id = current.valueIds[position++];
+                if (!stale.contains(id)) {
+                    ids.add(id);
+                }
+            } else {
+                for (Long id : change.getValue()) {
+                    ids.add(id);
+                    if (ids.size() >= wanted) {
+                        break;
+                    }
+                }
+                change = nextMatch(changes, prefix);
+            }
+        }
+        return ids.stream()
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    private static Map.Entry<String, Set<Long>> nextMatch(Iterator<Map.Entry<String, Set<Long>>> changes,
+                                                          String prefix) {
+        if (changes.hasNext()) {
+            Map.Entry<String, Set<Long>> next = changes.next();
+            return next.getKey().startsWith(prefix) ? next : null;
+        }
+        return null;
+    }
+
+    private List<Long> deltaCandidates(Set<Long> trigrams) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (long trigram : trigrams) {
+            Set<Long> ids = deltaPostings.get(trigram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        for (Long id : lists.getFirst()) {
+            if (lists.stream().skip(1).allMatch(ids -> ids.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private void removeFromDelta(long id, Document previous) {
+        if (previous == null) {
+            return;
+        }
+        for (long trigram : previous.trigrams()) {
+            Set<Long> ids = deltaPostings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    deltaPostings.remove(trigram);
+                }
+            }
+        }
+        for (String value : previous.values()) {
+            Set<Long> ids = deltaValues.get(value);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    deltaValues.remove(value);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Long> trigrams(String... values) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String value : values) {
+            for (int i = 0; i + TRIGRAM_LENGTH <= value.length(); i++) {
+                trigrams.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+            }
+        }
+        return trigrams;
+    }
+
+    private record Document(String name, String lastname) {
+
+        Set<Long> trigrams() {
+            return TrigramIndex.trigrams(name, lastname);
+        }
+
+        Set<String> values() {
+            Set<String> values = new HashSet<>(2);
+            if (!name.isEmpty()) {
+                values.add(name);
+            }
+            if (!lastname.isEmpty()) {
+                values.add(lastname);
+            }
+            return values;
+        }
+
+        int length() {
+            return name.length() + lastname.length();
+        }
+
+        int score(String term) {
+            return Math.max(score(name, term), score(lastname, term));
+        }
+
+        private static int score(String value, String term) {
+            if (value.equals(term)) {
+                return SCORE_EXACT;
+            }
+            if (value.startsWith(term)) {
+                return SCORE_PREFIX;
+            }
+            return value.contains(term) ? SCORE_CONTAINS : 0;
+        }
+    }
+
+    private record Hit(long id, int score, int length) {
+    }
+
+    /**
+     * Listas de trigramas ({@code trigrams} ordenado y {@code postings} con los IDs ordenados de cada uno)
+     * y arreglos paralelos de nombres/apellidos ordenados por valor y, dentro del mismo valor, por ID.
+     */
+    private static final class Base {
+
+        private static final Base EMPTY = new Base(new long[0], new long[0][], new String[0], new long[0]);
+
+        private final long[] trigrams;
+        private final long[][] postings;
+        private final String[] values;
+        private final long[] valueIds;
+
+        private Base(long[] trigrams, long[][] postings, String[] values, long[] valueIds) {
+            this.trigrams = trigrams;
+            this.postings = postings;
+            this.values = values;
+            this.valueIds = valueIds;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Base of(Map<Long, Document> documents) {
+            long[] ids = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            // Al recorrer los IDs en orden, cada lista queda ordenada sin ordenarla
+            Map<Long, PostingList> lists = new HashMap<>();
+            for (long id : ids) {
+                for (long trigram : documents.get(id).trigrams()) {
+                    lists.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+                }
+            }
+            long[] trigrams = lists.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            long[][] postings = new long[trigrams.length][];
+            for (int i = 0; i < trigrams.length; i++) {
+                postings[i] = lists.get(trigrams[i]).toArray();
+            }
+
+            Map.Entry<String, Long>[] pairs = documents.entrySet().stream()
+                    .flatMap(entry -> entry.getValue().values().stream().map(value -> Map.entry(value, entry.getKey())))
+                    .toArray(Map.Entry[]::new);
+            Arrays.parallelSort(pairs, Map.Entry.<String, Long>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+            String[] values = new String[pairs.length];
+            long[] valueIds = new long[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                values[i] = pairs[i].getKey();
+                valueIds[i] = pairs[i].getValue();
+            }
+            return new Base(trigrams, postings, values, valueIds);
+        }
+
+        /**
+         * @return IDs presentes en las listas de todos los trigramas
+         */
+        private long[] candidates(Set<Long> terms) {
+            long[][] lists = new long[terms.size()][];
+            int n = 0;
+            for (long trigram : terms) {
+                int position = Arrays.binarySearch(trigrams, trigram);
+                if (position < 0) {
+                    return new long[0];
+                }
+                lists[n++] = postings[position];
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+            long[] result = lists[0];
+            for (int i = 1; i < lists.length && result.length > 0; i++) {
+                result = intersect(result, lists[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Intersección de dos arreglos ordenados; busca cada ID de la lista corta en la larga.
+         */
+        private static long[] intersect(long[] shorter, long[] longer) {
+            long[] result = new long[shorter.length];
+            int size = 0;
+            int from = 0;
+            for (long id : shorter) {
+                int position = Arrays.binarySearch(longer, from, longer.length, id);
+                if (position >= 0) {
+                    result[size++] = id;
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+                if (from >= longer.length) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        /**
+         * @return posición del primer valor mayor o igual al prefijo
+         */
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Lista creciente de IDs sin objetos por elemento, usada al construir la base.
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
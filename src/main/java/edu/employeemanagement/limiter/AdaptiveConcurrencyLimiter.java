@@ -0,0 +1,128 @@
+package edu.employeemanagement.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Límite de concurrencia adaptativo por gradiente de latencia.
+ *
+ * <p>Compara la latencia reciente, promedio de una ventana corta de muestras, con una media móvil
+ * larga de esos promedios (la latencia "sin carga"). Mientras ambas se parecen, el límite crece de a
+ * {@code √límite}; cuando la reciente supera a la de referencia más allá de la tolerancia, el límite
+ * se reduce en la misma proporción (hasta la mitad por ventana). Así las peticiones que sobran se
+ * rechazan de inmediato en lugar de hacer cola en Tomcat y en el pool de conexiones. Promediar la
+ * ventana evita que una mezcla de llamadas rápidas y lentas mueva el límite con cada muestra: solo
+ * cuenta si cambia la latencia de la mezcla.</p>
+ *
+ * <p>{@link #tryAcquire()} y {@link #release(long)} no bloquean: si otro hilo está recalculando el
+ * límite, la muestra se descarta.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int shortWindow;
+    private final double longWindowFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private double longRtt;
+    // Ventana corta en curso
+    private double windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    /**
+     * @param shortWindow cantidad de muestras promediadas en cada ajuste del límite
+     * @param longWindow  cantidad de muestras que abarca la media móvil de referencia
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double rttTolerance, double smoothing, int shortWindow, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.shortWindow = Math.max(1, shortWindow);
+        this.longWindowFactor = 2.0 / (Math.max(1, longWindow / this.shortWindow) + 1);
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Reserva un lugar si hay capacidad.
+     *
+     * @return true si se reservó; en ese caso debe liberarse con {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Libera el lugar reservado y ajusta el límite con la latencia observada.
+     *
+     * @param rttNanos latencia de la llamada en nanosegundos
+     */
+    public void release(long rttNanos) {
+        int observedInFlight = inFlight.getAndDecrement();
+        if (rttNanos > 0 && updateLock.tryLock()) {
+            try {
+                update(rttNanos, observedInFlight);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar reservado sin aportar una muestra de latencia; para llamadas resueltas sin
+     * usar el recurso que protege el límite.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(double rtt, int observedInFlight) {
+        windowRttSum += rtt;
+        windowMaxInFlight = Math.max(windowMaxInFlight, observedInFlight);
+        if (++windowSamples < shortWindow) {
+            return;
+        }
+        double shortRtt = windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        longRtt = longRtt == 0 ? shortRtt : longRtt + longWindowFactor * (shortRtt - longRtt);
+        // Si la latencia bajó mucho, la referencia quedó desactualizada: se acerca más rápido
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // Con menos de la mitad del límite en uso la latencia no dice nada sobre la capacidad
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.clamp(rttTolerance * longRtt / shortRtt, 0.5, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+}
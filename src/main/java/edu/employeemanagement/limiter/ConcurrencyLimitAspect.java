@@ -0,0 +1,129 @@
+package edu.employeemanagement.limiter;
+
+import edu.employeemanagement.cache.ServedFromMemory;
+import edu.employeemanagement.config.ConcurrencyLimitProperties;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static edu.employeemanagement.util.Constants.SERVICE_OVERLOADED;
+
+/**
+ * Aplica un límite de concurrencia adaptativo a las llamadas a {@code IEmployeeService},
+ * con límites separados para lecturas y escrituras.
+ *
+ * <p>Un método es de lectura si su implementación no declara {@link Transactional} o lo declara
+ * con {@code readOnly = true}. Cuando el límite está completo la llamada se rechaza al instante con
+ * {@link ServiceUnavailableException} (503 vía {@code GlobalExceptionHandler}), sin tomar conexión.
+ * Se ejecuta dentro de {@code ServiceMetricsAspect}, por lo que los rechazos también aparecen como
+ * errores {@code SERVICE_UNAVAILABLE} en {@code employees.service.errors}.</p>
+ *
+ * <p>El límite protege a la BD: una llamada que el servicio resuelve en memoria (caché o índice) lo
+ * indica con {@link ServedFromMemory#mark()} y su latencia de microsegundos no se mezcla con la de las
+ * consultas al ajustar el límite. La marca se limpia en cada llamada, aunque el límite esté desactivado.</p>
+ *
+ * <ul>
+ *     <li>{@code employees.concurrency.limit{kind=read|write}}: límite actual</li>
+ *     <li>{@code employees.concurrency.in.flight{kind}}: llamadas en curso</li>
+ *     <li>{@code employees.concurrency.rejected{kind}}: llamadas rechazadas (la tasa se calcula en Prometheus)</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitAspect {
+
+    private static final String READ = "read";
+    private static final String WRITE = "write";
+
+    private final boolean enabled;
+    private final Limiter read;
+    private final Limiter write;
+    private final Map<Method, Limiter> limiterByMethod = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitAspect(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.read = new Limiter(READ, new AdaptiveConcurrencyLimiter(properties.readInitialLimit(),
+                properties.readMinLimit(), properties.readMaxLimit(), properties.rttTolerance(),
+                properties.smoothing(), properties.shortWindow(), properties.longWindow()), meterRegistry);
+        this.write = new Limiter(WRITE, new AdaptiveConcurrencyLimiter(properties.writeInitialLimit(),
+                properties.writeMinLimit(), properties.writeMaxLimit(), properties.rttTolerance(),
+                properties.smoothing(), properties.shortWindow(), properties.longWindow()), meterRegistry);
+    }
+
+    @Around("execution(* edu.employeemanagement.service.interfaces.IEmployeeService.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Una marca que quedó de una llamada anterior del hilo no debe aplicarse a esta
+        ServedFromMemory.consume();
+        if (!enabled) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                ServedFromMemory.consume();
+            }
+        }
+        Limiter limiter = limiterFor(joinPoint);
+        if (!limiter.concurrencyLimiter.tryAcquire()) {
+            limiter.rejected.increment();
+            throw new ServiceUnavailableException(SERVICE_OVERLOADED);
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (ServedFromMemory.consume()) {
+                limiter.concurrencyLimiter.release();
+            } else {
+                limiter.concurrencyLimiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private Limiter limiterFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return limiterByMethod.computeIfAbsent(method, key -> {
+            Method implementation = joinPoint.getTarget() != null
+                    ? AopUtils.getMostSpecificMethod(key, joinPoint.getTarget().getClass())
+                    : key;
+            Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(implementation, Transactional.class);
+            return transactional == null || transactional.readOnly() ? read : write;
+        });
+    }
+
+    private static final class Limiter {
+
+        private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+        private final Counter rejected;
+
+        private Limiter(String kind, AdaptiveConcurrencyLimiter concurrencyLimiter, MeterRegistry meterRegistry) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            this.rejected = Counter.builder("employees.concurrency.rejected")
+                    .description("Llamadas rechazadas por el límite de concurrencia")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+            Gauge.builder("employees.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Límite de concurrencia actual")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+            Gauge.builder("employees.concurrency.in.flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Llamadas en curso")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        }
+    }
+}
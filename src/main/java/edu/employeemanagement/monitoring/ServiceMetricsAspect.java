@@ -0,0 +1,108 @@
+package edu.employeemanagement.monitoring;
+
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
+import edu.employeemanagement.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static edu.employeemanagement.util.Constants.INTERNAL_SERVER_ERROR;
+
+/**
+ * Instrumenta con Micrometer todas las llamadas a los servicios de {@code service.interfaces}.
+ *
+ * <ul>
+ *     <li>{@code employees.service.invocations}: timer por servicio, método y resultado (success/error)</li>
+ *     <li>{@code employees.service.errors}: contador por método y {@link ApiException#getErrorCode()}</li>
+ *     <li>{@code employees.service.result.size}: cantidad de elementos devueltos por los métodos de listas y páginas</li>
+ * </ul>
+ *
+ * <p>Se ejecuta por fuera de la transacción, por lo que el tiempo incluye el commit. Los medidores
+ * se registran una sola vez y se reutilizan desde un mapa para no consultar el registro en cada llamada.
+ * Las llamadas a los repositorios se miden con {@code spring.data.repository.invocations} (Spring Boot).</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* edu.employeemanagement.service.interfaces.*.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer(service, method, OUTCOME_SUCCESS).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            recordResultSize(service, method, result);
+            return result;
+        } catch (Throwable ex) {
+            timer(service, method, OUTCOME_ERROR).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            errorCounter(service, method, errorCode(ex)).increment();
+            throw ex;
+        }
+    }
+
+    private void recordResultSize(String service, String method, Object result) {
+        int size;
+        if (result instanceof Collection<?> collection) {
+            size = collection.size();
+        } else if (result instanceof CursorPageDTO<?> page) {
+            size = page.content().size();
+        } else {
+            return;
+        }
+        resultSizes.computeIfAbsent(service + "." + method, key -> DistributionSummary.builder("employees.service.result.size")
+                        .description("Cantidad de elementos devueltos por llamada")
+                        .tag("service", service)
+                        .tag("method", method)
+                        .register(meterRegistry))
+                .record(size);
+    }
+
+    private Timer timer(String service, String method, String outcome) {
+        return timers.computeIfAbsent(service + "." + method + "." + outcome, key -> Timer.builder("employees.service.invocations")
+                .description("Latencia de las llamadas a la capa de servicio")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private Counter errorCounter(String service, String method, String errorCode) {
+        return errorCounters.computeIfAbsent(service + "." + method + "." + errorCode, key -> Counter.builder("employees.service.errors")
+                .description("Errores de la capa de servicio por código de error")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("error.code", errorCode)
+                .register(meterRegistry));
+    }
+
+    private static String errorCode(Throwable ex) {
+        return ex instanceof ApiException apiException ? apiException.getErrorCode() : INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,90 @@
+package edu.employeemanagement.monitoring;
+
+import edu.employeemanagement.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detecta cuándo un hilo virtual queda fijado (pinned) a su hilo portador, por ejemplo al
+ * bloquearse dentro de un bloque {@code synchronized} del driver JDBC, y lo publica como métricas.
+ *
+ * <p>Escucha los eventos JFR {@code jdk.VirtualThreadPinned} y {@code jdk.VirtualThreadSubmitFailed}
+ * con un {@link RecordingStream} en segundo plano. Solo se activa cuando
+ * {@code spring.threads.virtual.enabled=true}.</p>
+ *
+ * <ul>
+ *     <li>{@code jvm.threads.virtual.pinned}: duración de cada bloqueo fijado</li>
+ *     <li>{@code jvm.threads.virtual.submit.failed}: hilos virtuales que no pudieron planificarse</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final VirtualThreadProperties properties;
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Tiempo que los hilos virtuales permanecieron fijados a su hilo portador")
+                .register(meterRegistry);
+        this.submitFailedCounter = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Hilos virtuales que no pudieron planificarse")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.pinningThreshold()).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT);
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Monitor de hilos virtuales fijados iniciado (umbral: {})", properties.pinningThreshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        if (log.isDebugEnabled() && event.getStackTrace() != null) {
+            RecordedFrame frame = event.getStackTrace().getFrames().stream()
+                    .filter(RecordedFrame::isJavaFrame)
+                    .findFirst()
+                    .orElse(null);
+            log.debug("Hilo virtual fijado durante {} en {}", event.getDuration(),
+                    frame == null ? "desconocido" : frame.getMethod().getType().getName() + "." + frame.getMethod().getName());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package edu.employeemanagement.repository;
+
+import edu.employeemanagement.domain.entity.EmployeeImportJob;
+import edu.employeemanagement.domain.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado de los trabajos de importación. Las escrituras sobre un trabajo en curso solo se aplican si
+ * {@code owner} sigue siendo la ejecución que lo tiene: si otra instancia lo retomó, devuelven 0.
+ */
+@Repository
+public interface EmployeeImportJobRepository extends JpaRepository<EmployeeImportJob, UUID> {
+
+    /**
+     * Marca como iniciado un trabajo en espera.
+     *
+     * @param id    identificador del trabajo
+     * @param owner ejecución que lo tiene
+     * @param now   fecha actual
+     * @return 1 si se inició, 0 si otra ejecución lo tomó
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.status = RUNNING, j.startedAt = COALESCE(j.startedAt, :now), " +
+            "j.heartbeatAt = :now WHERE j.id = :id AND j.owner = :owner AND j.status = QUEUED")
+    int start(@Param("id") UUID id, @Param("owner") UUID owner, @Param("now") LocalDateTime now);
+
+    /**
+     * Registra el avance de la última porción confirmada. Se ejecuta en la misma transacción que inserta
+     * las filas de la porción.
+     *
+     * @return 1 si se registró, 0 si otra ejecución tomó el trabajo
+     */
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.bytesRead = :bytesRead, j.committedLine = :committedLine, " +
+            "j.reportBytes = :reportBytes, j.processedRows = :processedRows, j.createdRows = :createdRows, " +
+            "j.rejectedRows = :rejectedRows, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner AND j.status = RUNNING")
+    int checkpoint(@Param("id") UUID id,
+                   @Param("owner") UUID owner,
+                   @Param("bytesRead") long bytesRead,
+                   @Param("committedLine") long committedLine,
+                   @Param("reportBytes") long reportBytes,
+                   @Param("processedRows") long processedRows,
+                   @Param("createdRows") long createdRows,
+                   @Param("rejectedRows") long rejectedRows,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * Renueva la señal de vida de un trabajo en espera o en curso.
+     *
+     * @return 1 si se renovó, 0 si otra ejecución tomó el trabajo o ya finalizó
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner AND j.status IN (QUEUED, RUNNING)")
+    int touch(@Param("id") UUID id, @Param("owner") UUID owner, @Param("now") LocalDateTime now);
+
+    /**
+     * Finaliza un trabajo.
+     *
+     * @param status COMPLETED o FAILED
+     * @param error  motivo de la falla, o null
+     * @return 1 si se finalizó, 0 si otra ejecución tomó el trabajo
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.status = :status, j.error = :error, j.finishedAt = :now, " +
+            "j.heartbeatAt = :now WHERE j.id = :id AND j.owner = :owner AND j.status IN (QUEUED, RUNNING)")
+    int finish(@Param("id") UUID id,
+               @Param("owner") UUID owner,
+               @Param("status") ImportJobStatus status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * Devuelve a la espera un trabajo sin terminar para que lo retome cualquier instancia de inmediato.
+     *
+     * @return 1 si se liberó, 0 si otra ejecución tomó el trabajo o ya finalizó
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.status = QUEUED, j.heartbeatAt = NULL " +
+            "WHERE j.id = :id AND j.owner = :owner AND j.status IN (QUEUED, RUNNING)")
+    int release(@Param("id") UUID id, @Param("owner") UUID owner);
+
+    /**
+     * Obtiene los trabajos sin terminar cuya ejecución no da señales de vida desde {@code staleBefore}.
+     *
+     * @param staleBefore fecha límite de la última señal de vida
+     * @return trabajos abandonados
+     */
+    @Query("SELECT j FROM EmployeeImportJob j WHERE j.status IN (QUEUED, RUNNING) " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore) ORDER BY j.submittedAt")
+    List<EmployeeImportJob> findAbandoned(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Asigna un trabajo abandonado a una nueva ejecución, siempre que ninguna otra lo haya tomado antes.
+     *
+     * @param owner       ejecución abandonada
+     * @param newOwner    nueva ejecución
+     * @param staleBefore fecha límite de la última señal de vida
+     * @return 1 si se tomó, 0 si otra instancia lo tomó o la ejecución volvió a dar señales de vida
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmployeeImportJob j SET j.owner = :newOwner, j.status = QUEUED, j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner AND j.status IN (QUEUED, RUNNING) " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int takeOver(@Param("id") UUID id,
+                 @Param("owner") UUID owner,
+                 @Param("newOwner") UUID newOwner,
+                 @Param("now") LocalDateTime now,
+                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Obtiene los trabajos finalizados antes de la fecha dada (depuración).
+     *
+     * @param before fecha límite
+     * @return trabajos finalizados
+     */
+    List<EmployeeImportJob> findByFinishedAtBefore(LocalDateTime before);
+}
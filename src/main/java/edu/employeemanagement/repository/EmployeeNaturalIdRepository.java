@@ -0,0 +1,21 @@
+package edu.employeemanagement.repository;
+
+import edu.employeemanagement.domain.entity.Employee;
+
+import java.util.Optional;
+
+/**
+ * Búsqueda de empleados por su identificador natural (email).
+ */
+public interface EmployeeNaturalIdRepository {
+
+    /**
+     * Busca un empleado por email usando la resolución por natural-id de Hibernate.
+     * La resolución email → ID y la entidad se sirven desde la caché de segundo nivel
+     * cuando están disponibles, sin consultar la BD.
+     *
+     * @param email email del empleado
+     * @return Optional con el empleado si existe
+     */
+    Optional<Employee> findByEmail(String email);
+}
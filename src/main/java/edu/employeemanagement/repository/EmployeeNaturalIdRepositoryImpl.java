@@ -0,0 +1,25 @@
+package edu.employeemanagement.repository;
+
+import edu.employeemanagement.domain.entity.Employee;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class EmployeeNaturalIdRepositoryImpl implements EmployeeNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    EmployeeNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Employee> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Employee.class)
+                .loadOptional(email);
+    }
+}
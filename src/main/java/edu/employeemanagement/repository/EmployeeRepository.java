@@ -1,26 +1,176 @@
 package edu.employeemanagement.repository;
 
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
 import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.projection.CollectionVersionProjection;
+import edu.employeemanagement.domain.projection.DeletedEmployeeProjection;
+import edu.employeemanagement.domain.projection.EmployeeChangeProjection;
+import edu.employeemanagement.domain.projection.EmployeeNameProjection;
+import edu.employeemanagement.domain.projection.EmployeeStatsRowProjection;
+import edu.employeemanagement.domain.projection.EmployeeUpsertProjection;
+import edu.employeemanagement.domain.projection.EmployeeVersionProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static edu.employeemanagement.util.Constants.EXPORT_FETCH_SIZE;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeNaturalIdRepository {
 
+    /**
+     * Expresión JPQL que construye un {@link EmployeeResponseDTO} a partir del alias {@code e}.
+     */
+    String RESPONSE_DTO = "new edu.employeemanagement.domain.dto.response.EmployeeResponseDTO(" +
+            "e.idEmployee, e.name, e.lastname, e.email, e.createdAt, e.updatedAt, e.version)";
 
     /**
-     * Busca un empleado por email.
-     * Útil para validar que el email sea único antes de crear/actualizar.
+     * Obtiene un empleado como DTO de respuesta, sin hidratar la entidad.
      *
-     * @param email Email del empleado a buscar
+     * @param idEmployee ID del empleado
      * @return Optional con el empleado si existe
      */
-    Optional<Employee> findByEmail(String email);
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e WHERE e.idEmployee = :idEmployee")
+    Optional<EmployeeResponseDTO> findResponseById(@Param("idEmployee") Long idEmployee);
+
+    /**
+     * Actualiza un empleado en una sola sentencia, incrementando su versión.
+     * Si se indica {@code expectedVersion}, solo se actualiza cuando la versión actual coincide
+     * (bloqueo optimista sin bloquear la fila antes).
+     * <p>Devuelve el email anterior para las estadísticas por dominio y la invalidación por llave natural. Se lee
+     * con {@code SELECT ... FOR UPDATE} en una CTE: en READ COMMITTED, un {@code FROM employees} sin bloqueo usa la
+     * instantánea de la sentencia y, si otra transacción cambió el email mientras esta esperaba la fila,
+     * devolvería el email ya reemplazado. Como el upsert, es una consulta nativa con {@code RETURNING} que declara
+     * su tabla (el auto-flush previo se limita a ella); la caché de segundo nivel se bloquea y se invalida con el
+     * evento ({@code HibernateCacheInvalidator}).</p>
+     *
+     * @param idEmployee      ID del empleado
+     * @param name            nuevo nombre
+     * @param lastname        nuevo apellido
+     * @param email           nuevo email
+     * @param updatedAt       fecha de modificación
+     * @param expectedVersion versión esperada, o null para actualizar sin condición
+     * @return email anterior, o vacío si no existe o la versión no coincide
+     */
+    @Query(value = "WITH previous AS (SELECT id_employee, email FROM employees " +
+            "WHERE id_employee = :idEmployee FOR UPDATE) " +
+            "UPDATE employees e SET name = :name, lastname = :lastname, email = :email, " +
+            "updated_at = :updatedAt, version = e.version + 1 FROM previous " +
+            "WHERE e.id_employee = previous.id_employee " +
+            "AND (CAST(:expectedVersion AS BIGINT) IS NULL OR e.version = :expectedVersion) " +
+            "RETURNING previous.email",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employees"))
+    Optional<String> updateEmployee(@Param("idEmployee") Long idEmployee,
+                       @Param("name") String name,
+                       @Param("lastname") String lastname,
+                       @Param("email") String email,
+                       @Param("updatedAt") LocalDateTime updatedAt,
+                       @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Crea o actualiza un empleado por email en una sola sentencia atómica
+     * ({@code INSERT ... ON CONFLICT (email) DO UPDATE ... RETURNING}), sin consultar antes si existe.
+     * <p>El ID nuevo se toma con {@code nextval} de la misma secuencia que usa Hibernate: como el
+     * optimizador reserva bloques de {@code allocationSize} a partir de cada valor, no hay colisiones
+     * (solo se descarta el resto del bloque).</p>
+     *
+     * @param name      nombre
+     * @param lastname  apellido
+     * @param email     email (llave del upsert)
+     * @param updatedAt fecha de creación/modificación
+     * @return fila resultante, indicando si se insertó o se actualizó
+     */
+    @Query(value = "INSERT INTO employees (id_employee, name, lastname, email, created_at, updated_at, version) " +
+            "VALUES (nextval('employees_seq'), :name, :lastname, :email, :updatedAt, :updatedAt, 0) " +
+            "ON CONFLICT (email) DO UPDATE SET name = EXCLUDED.name, lastname = EXCLUDED.lastname, " +
+            "updated_at = EXCLUDED.updated_at, version = employees.version + 1 " +
+            "RETURNING id_employee AS \"idEmployee\", name AS \"name\", lastname AS \"lastname\", email AS \"email\", " +
+            "created_at AS \"createdAt\", updated_at AS \"updatedAt\", version AS \"version\", " +
+            "(xmax = 0) AS \"inserted\"",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employees"))
+    EmployeeUpsertProjection upsertByEmail(@Param("name") String name,
+                                           @Param("lastname") String lastname,
+                                           @Param("email") String email,
+                                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Elimina un empleado y registra su marca de eliminación en una sola sentencia, sin cargarlo antes.
+     * La marca permite a la sincronización incremental informar la eliminación; el email y la fecha
+     * de alta devueltos, a las estadísticas. La consulta declara las dos tablas que modifica; la caché
+     * de segundo nivel se bloquea y se invalida con el evento ({@code HibernateCacheInvalidator}).
+     *
+     * @param idEmployee ID del empleado
+     * @param deletedAt  fecha de eliminación
+     * @return empleado eliminado, o vacío si no existe
+     */
+    @Query(value = "WITH deleted AS (DELETE FROM employees WHERE id_employee = :idEmployee " +
+            "RETURNING id_employee, email, created_at), " +
+            "tombstone AS (INSERT INTO employee_tombstones (id_employee, deleted_at) " +
+            "SELECT id_employee, :deletedAt FROM deleted " +
+            "ON CONFLICT (id_employee) DO UPDATE SET deleted_at = EXCLUDED.deleted_at) " +
+            "SELECT id_employee AS \"idEmployee\", email AS \"email\", created_at AS \"createdAt\" FROM deleted",
+            nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employees"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "employee_tombstones")
+    })
+    Optional<DeletedEmployeeProjection> deleteEmployeeById(@Param("idEmployee") Long idEmployee, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Obtiene solo el ID y la versión de un empleado, sin cargar la entidad.
+     * Usado para responder peticiones condicionales (If-None-Match).
+     *
+     * @param idEmployee ID del empleado
+     * @return Optional con la versión del empleado si existe
+     */
+    @Query("SELECT new edu.employeemanagement.domain.projection.EmployeeVersionProjection(e.idEmployee, e.version) " +
+            "FROM Employee e WHERE e.idEmployee = :idEmployee")
+    Optional<EmployeeVersionProjection> findVersionById(@Param("idEmployee") Long idEmployee);
+
+    /**
+     * Obtiene las marcas de agua de altas/modificaciones y de eliminaciones, usadas como versión del listado
+     * completo (ETag) sin contar ni cargar los empleados.
+     * <p>Son los {@code change_xid} asignados por la BD (V2), no relojes de cada instancia, y se leen con el
+     * índice de change_xid. Solo se consideran las transacciones anteriores al xmin del snapshot: una transacción
+     * más antigua que aún no confirmó podría hacerlo con un ID menor al máximo ya visto y no cambiaría el ETag.
+     * Su cambio se refleja en cuanto el xmin la supera.</p>
+     *
+     * @return marcas de agua de la tabla
+     */
+    @Query(value = "SELECT " +
+            "(SELECT COALESCE(MAX(e.change_xid), 0) FROM employees e WHERE e.change_xid < s.xmin) AS \"employeesXid\", " +
+            "(SELECT COALESCE(MAX(t.change_xid), 0) FROM employee_tombstones t WHERE t.change_xid < s.xmin) " +
+            "AS \"tombstonesXid\" " +
+            "FROM (SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT) AS xmin) s",
+            nativeQuery = true)
+    CollectionVersionProjection findCollectionVersion();
+
+    /**
+     * Cuenta los empleados por día de alta y dominio de email en una sola consulta agregada.
+     * Usado para inicializar y reconciliar las estadísticas en memoria.
+     *
+     * @return una fila por combinación de día y dominio
+     */
+    @Query("SELECT new edu.employeemanagement.domain.projection.EmployeeStatsRowProjection(" +
+            "CAST(e.createdAt AS LocalDate), LOWER(SUBSTRING(e.email, LOCATE('@', e.email) + 1)), COUNT(e)) " +
+            "FROM Employee e " +
+            "GROUP BY CAST(e.createdAt AS LocalDate), LOWER(SUBSTRING(e.email, LOCATE('@', e.email) + 1))")
+    List<EmployeeStatsRowProjection> countByHireDateAndDomain();
 
     /**
      * Verifica si existe un empleado con el email dado.
@@ -31,12 +181,23 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Obtiene, en una sola consulta, cuáles de los emails dados ya están registrados.
+     * Usado por la creación por lotes para no consultar email por email.
+     *
+     * @param emails Emails a verificar
+     * @return Conjunto con los emails que ya existen
+     */
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     /**
      * Busca empleados por apellido (ignorando mayúsculas/minúsculas).
      *
      * @param lastname Apellido a buscar
      * @return Lista de empleados con ese apellido
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByLastnameIgnoreCase(String lastname);
 
     /**
@@ -44,9 +205,152 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * Útil para implementar búsqueda en Angular.
      * @return Lista de empleados que coincidan
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Employee e WHERE " +
             "LOWER(e.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(e.lastname) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Employee> searchEmployees(@Param("searchTerm") String searchTerm);
 
+    /**
+     * Obtiene todos los empleados construyendo el DTO de respuesta directamente en la consulta.
+     * No se hidratan entidades ni se guardan snapshots para dirty-checking en el contexto de persistencia.
+     *
+     * @return Lista de empleados ordenados por ID
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e ORDER BY e.idEmployee")
+    List<EmployeeResponseDTO> findAllResponses();
+
+    /**
+     * Obtiene los empleados con los IDs dados como DTO de respuesta, sin hidratar entidades.
+     *
+     * @param ids IDs de los empleados
+     * @return Lista de empleados encontrados (sin orden garantizado)
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e WHERE e.idEmployee IN :ids")
+    List<EmployeeResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los empleados con los emails dados como DTO de respuesta, sin hidratar entidades.
+     *
+     * @param emails emails de los empleados
+     * @return Lista de empleados encontrados (sin orden garantizado)
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e WHERE e.email IN :emails")
+    List<EmployeeResponseDTO> findResponsesByEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Busca empleados cuyo nombre o apellido contenga el término, ordenados por ID y con límite,
+     * construyendo el DTO de respuesta en la consulta.
+     * Usado como respaldo mientras el índice de búsqueda en memoria se construye.
+     *
+     * @param searchTerm término de búsqueda
+     * @param limit      cantidad máxima de registros a devolver
+     * @return Lista de empleados que coincidan
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e WHERE " +
+            "LOWER(e.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(e.lastname) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+            "ORDER BY e.idEmployee")
+    List<EmployeeResponseDTO> searchResponsesOrderById(@Param("searchTerm") String searchTerm, Limit limit);
+
+    /**
+     * Obtiene la siguiente página de empleados usando paginación keyset (seek) sobre id_employee.
+     * A diferencia de OFFSET, el costo no crece con la posición de la página
+     * porque la consulta usa directamente el índice de la llave primaria.
+     * El DTO de respuesta se construye en la consulta, sin hidratar entidades.
+     *
+     * @param idEmployee último ID devuelto en la página anterior (0 para la primera página)
+     * @param limit      cantidad máxima de registros a devolver
+     * @return Lista de empleados ordenados por ID ascendente
+     */
+    @Query("SELECT " + RESPONSE_DTO + " FROM Employee e WHERE e.idEmployee > :idEmployee ORDER BY e.idEmployee")
+    List<EmployeeResponseDTO> findResponsesAfterId(@Param("idEmployee") Long idEmployee, Limit limit);
+
+    /**
+     * Obtiene los empleados creados o modificados después de la marca de agua (changeXid, idEmployee)
+     * por transacciones anteriores a {@code beforeXid}, usando el índice de change_xid. El costo depende
+     * de la cantidad de cambios.
+     *
+     * @param sinceXid  transacción de la marca de agua
+     * @param sinceId   ID de la marca de agua (desempate para la misma transacción)
+     * @param beforeXid transacción a partir de la cual se excluyen los cambios (xmin del snapshot)
+     * @param limit     cantidad máxima de registros a devolver
+     * @return Lista de empleados ordenados por transacción e ID
+     */
+    @Query("SELECT new edu.employeemanagement.domain.projection.EmployeeChangeProjection(e.changeXid, " +
+            "e.idEmployee, e.name, e.lastname, e.email, e.createdAt, e.updatedAt, e.version) FROM Employee e WHERE " +
+            "(e.changeXid > :sinceXid OR (e.changeXid = :sinceXid AND e.idEmployee > :sinceId)) " +
+            "AND e.changeXid < :beforeXid ORDER BY e.changeXid, e.idEmployee")
+    List<EmployeeChangeProjection> findChangedSince(@Param("sinceXid") Long sinceXid,
+                                                    @Param("sinceId") Long sinceId,
+                                                    @Param("beforeXid") Long beforeXid,
+                                                    Limit limit);
+
+    /**
+     * Obtiene el xmin del snapshot actual: toda transacción con un ID menor ya terminó, por lo que sus
+     * cambios son visibles y ninguna otra puede confirmar con un ID menor.
+     *
+     * @return xmin del snapshot
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)", nativeQuery = true)
+    long findSnapshotXmin();
+
+    /**
+     * Obtiene la primera transacción que modificó un empleado desde una fecha; traduce un {@code since} con
+     * fecha a una posición de la sincronización incremental.
+     *
+     * @param since fecha desde la que se buscan cambios
+     * @return menor change_xid de los empleados modificados desde esa fecha, o vacío si no hay
+     */
+    @Query("SELECT MIN(e.changeXid) FROM Employee e WHERE e.updatedAt >= :since")
+    Optional<Long> findFirstChangeXidSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Recorre todos los emails registrados con un cursor JDBC.
+     * Usado para construir el índice de emails en memoria. Debe consumirse dentro de una transacción.
+     *
+     * @return Stream con los emails
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Recorre el ID, nombre y apellido de todos los empleados con un cursor JDBC.
+     * Usado para construir el índice de búsqueda en memoria. Debe consumirse dentro de una transacción.
+     *
+     * @return Stream con la proyección de nombres
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT new edu.employeemanagement.domain.projection.EmployeeNameProjection(e.idEmployee, e.name, e.lastname) " +
+            "FROM Employee e")
+    Stream<EmployeeNameProjection> streamAllNames();
+
+    /**
+     * Recorre el ID, nombre, apellido y email de todos los empleados con un cursor JDBC.
+     * Usado para construir el índice de autocompletado. Debe consumirse dentro de una transacción.
+     *
+     * @return Stream con las sugerencias
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT new edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO(" +
+            "e.idEmployee, e.name, e.lastname, e.email) FROM Employee e")
+    Stream<EmployeeSuggestionDTO> streamAllSuggestions();
+
+    /**
+     * Recorre todos los empleados con un cursor JDBC en lugar de cargarlos en una lista.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar (try-with-resources).
+     *
+     * @return Stream de empleados ordenados por ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // El recorrido completo no debe desplazar a los empleados consultados de la caché de segundo nivel
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.idEmployee")
+    Stream<Employee> streamAllEmployees();
+
 }
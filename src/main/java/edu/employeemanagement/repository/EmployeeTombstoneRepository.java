@@ -0,0 +1,54 @@
+package edu.employeemanagement.repository;
+
+import edu.employeemanagement.domain.entity.EmployeeTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeTombstoneRepository extends JpaRepository<EmployeeTombstone, Long> {
+
+    /**
+     * Obtiene las eliminaciones posteriores a la marca de agua (changeXid, idEmployee) registradas por
+     * transacciones anteriores a {@code beforeXid}, en el mismo orden que {@link EmployeeRepository#findChangedSince}.
+     *
+     * @param sinceXid  transacción de la marca de agua
+     * @param sinceId   ID de la marca de agua (desempate para la misma transacción)
+     * @param beforeXid transacción a partir de la cual se excluyen las eliminaciones (xmin del snapshot)
+     * @param limit     cantidad máxima de registros a devolver
+     * @return Lista de eliminaciones ordenadas por transacción e ID
+     */
+    @Query("SELECT t FROM EmployeeTombstone t WHERE " +
+            "(t.changeXid > :sinceXid OR (t.changeXid = :sinceXid AND t.idEmployee > :sinceId)) " +
+            "AND t.changeXid < :beforeXid ORDER BY t.changeXid, t.idEmployee")
+    List<EmployeeTombstone> findDeletedSince(@Param("sinceXid") Long sinceXid,
+                                             @Param("sinceId") Long sinceId,
+                                             @Param("beforeXid") Long beforeXid,
+                                             Limit limit);
+
+    /**
+     * Obtiene la primera transacción que eliminó un empleado desde una fecha.
+     *
+     * @param since fecha desde la que se buscan eliminaciones
+     * @return menor change_xid de las eliminaciones desde esa fecha, o vacío si no hay
+     */
+    @Query("SELECT MIN(t.changeXid) FROM EmployeeTombstone t WHERE t.deletedAt >= :since")
+    Optional<Long> findFirstChangeXidSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Elimina las marcas anteriores a la fecha dada (compactación).
+     *
+     * @param before fecha límite
+     * @return cantidad de marcas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeTombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,106 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.enums.ExportFormat;
+import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import edu.employeemanagement.repository.EmployeeRepository;
+import edu.employeemanagement.service.interfaces.IEmployeeExportService;
+import edu.employeemanagement.util.CsvValues;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import static edu.employeemanagement.util.Constants.DATE_TIME_PATTERN;
+import static edu.employeemanagement.util.Constants.EXPORT_FETCH_SIZE;
+
+@Slf4j
+@Service
+public class EmployeeExportServiceImpl implements IEmployeeExportService {
+
+    private static final String CSV_HEADER = "idEmployee,name,lastname,email,createdAt,updatedAt";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeExportServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                     EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(ExportFormat format, OutputStream outputStream) {
+        log.info("Iniciando exportación de empleados en formato {}", format);
+        long exported = 0;
+
+        try (Stream<Employee> employees = employeeRepository.streamAllEmployees()) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            var iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(employee);
+                // Liberar la entidad para que el contexto de persistencia no crezca con la tabla
+                entityManager.detach(employee);
+
+                writer.write(format == ExportFormat.CSV
+                        ? toCsvLine(employeeResponseDTO)
+                        : objectMapper.writeValueAsString(employeeResponseDTO));
+                writer.write('\n');
+
+                // El primer registro se envía de inmediato y luego se vacía el buffer por bloques
+                if (++exported == 1 || exported % EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        log.info("Exportación finalizada: {} empleados en formato {}", exported, format);
+    }
+
+    /**
+     * Convierte un empleado a una línea CSV escapando los valores de texto.
+     */
+    private String toCsvLine(EmployeeResponseDTO employee) {
+        return employee.idEmployee() + "," +
+                CsvValues.escape(employee.name()) + "," +
+                CsvValues.escape(employee.lastname()) + "," +
+                CsvValues.escape(employee.email()) + "," +
+                formatDate(employee.createdAt()) + "," +
+                formatDate(employee.updatedAt());
+    }
+
+    private static String formatDate(LocalDateTime dateTime) {
+        return dateTime == null ? "" : DATE_TIME_FORMATTER.format(dateTime);
+    }
+}
@@ -0,0 +1,658 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.config.ImportProperties;
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.ImportJobDTO;
+import edu.employeemanagement.domain.entity.EmployeeImportJob;
+import edu.employeemanagement.domain.enums.ImportJobStatus;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ConflictException;
+import edu.employeemanagement.exception.InternalServerErrorException;
+import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.importer.CsvRecordReader;
+import edu.employeemanagement.importer.ImportJob;
+import edu.employeemanagement.repository.EmployeeImportJobRepository;
+import edu.employeemanagement.service.interfaces.IEmployeeImportService;
+import edu.employeemanagement.service.interfaces.IEmployeeService;
+import edu.employeemanagement.util.CsvValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static edu.employeemanagement.util.Constants.*;
+
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements IEmployeeImportService {
+
+    private static final String REPORT_HEADER = "line,status,email,message";
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "lastname", "email");
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final IEmployeeService employeeService;
+    private final EmployeeImportJobRepository jobRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final ImportProperties importProperties;
+    private final Path directory;
+    private final ThreadPoolExecutor executor;
+    // Ejecuciones de esta instancia, en espera o en curso; el estado que se consulta está en la BD
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Counter createdRows;
+    private final Counter rejectedRows;
+
+    public EmployeeImportServiceImpl(IEmployeeService employeeService, EmployeeImportJobRepository jobRepository,
+                                     PlatformTransactionManager transactionManager, ImportProperties importProperties,
+                                     MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.jobRepository = jobRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.importProperties = importProperties;
+        this.directory = importProperties.directory().toAbsolutePath();
+        // Pocos hilos virtuales y una cola acotada: cada trabajo ocupa una conexión por porción, y por
+        // encima de la cola se responde 503 en lugar de acumular archivos en disco
+        this.executor = new ThreadPoolExecutor(importProperties.maxConcurrentJobs(), importProperties.maxConcurrentJobs(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(importProperties.queueCapacity()),
+                Thread.ofVirtual().name("employee-import-", 0).factory());
+        Gauge.builder("employees.import.jobs", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Trabajos de importación en ejecución")
+                .tag("state", "running")
+                .register(meterRegistry);
+        Gauge.builder("employees.import.jobs", executor, pool -> pool.getQueue().size())
+                .description("Trabajos de importación en espera")
+                .tag("state", "queued")
+                .register(meterRegistry);
+        this.createdRows = Counter.builder("employees.import.rows")
+                .description("Filas importadas")
+                .tag("outcome", "created")
+                .register(meterRegistry);
+        this.rejectedRows = Counter.builder("employees.import.rows")
+                .description("Filas importadas")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportJobDTO submitImport(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(IMPORT_FILE_REQUIRED);
+        }
+        UUID id = UUID.randomUUID();
+        Path source = sourceOf(id);
+        try {
+            Files.createDirectories(directory);
+            file.transferTo(source);
+        } catch (IOException ex) {
+            throw new InternalServerErrorException(IMPORT_FILE_ERROR, ex);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        EmployeeImportJob state = EmployeeImportJob.builder()
+                .id(id)
+                .status(ImportJobStatus.QUEUED)
+                .fileName(file.getOriginalFilename())
+                .totalBytes(file.getSize())
+                .submittedAt(now)
+                .owner(UUID.randomUUID())
+                .heartbeatAt(now)
+                .build();
+        try {
+            readColumns(source);
+            jobRepository.save(state);
+        } catch (RuntimeException ex) {
+            deleteQuietly(source);
+            throw ex;
+        }
+
+        if (!enqueue(state)) {
+            jobRepository.deleteById(id);
+            deleteQuietly(source);
+            throw new ServiceUnavailableException(IMPORT_QUEUE_FULL);
+        }
+        log.info("Importación {} encolada: archivo '{}' ({} bytes)", id, state.getFileName(), state.getTotalBytes());
+        return toDTO(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportJobDTO findImportJob(String jobId) {
+        return toDTO(findState(jobId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path findFailureReport(String jobId) {
+        EmployeeImportJob state = findState(jobId);
+        if (state.getFinishedAt() == null) {
+            throw new ConflictException(String.format(IMPORT_REPORT_NOT_READY, jobId));
+        }
+        Path report = failureReportOf(state.getId());
+        if (!Files.exists(report)) {
+            throw new ResourceNotFoundException(String.format(IMPORT_REPORT_UNAVAILABLE, jobId));
+        }
+        return report;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(cron = "${app.import.cleanup-cron:0 0 * * * *}")
+    public int purgeFinishedJobs() {
+        LocalDateTime before = LocalDateTime.now().minus(importProperties.retention());
+        List<EmployeeImportJob> expired = jobRepository.findByFinishedAtBefore(before);
+        if (!expired.isEmpty()) {
+            expired.forEach(state -> deleteQuietly(failureReportOf(state.getId())));
+            jobRepository.deleteAllByIdInBatch(expired.stream().map(EmployeeImportJob::getId).toList());
+        }
+        log.info("Depuración de importaciones: {} trabajos eliminados (finalizados antes de {})", expired.size(), before);
+        return expired.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.import.recovery-interval:PT1M}")
+    public int recoverAbandonedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        // Los trabajos de esta instancia siguen vigentes aunque esperen turno o un reintento
+        for (ImportJob job : jobs.values()) {
+            try {
+                jobRepository.touch(job.getId(), job.getOwner(), now);
+            } catch (RuntimeException ex) {
+                log.warn("No fue posible renovar la señal de vida de la importación {}: {}", job.getId(), ex.getMessage());
+            }
+        }
+
+        LocalDateTime staleBefore = now.minus(importProperties.staleAfter());
+        int recovered = 0;
+        for (EmployeeImportJob abandoned : jobRepository.findAbandoned(staleBefore)) {
+            UUID owner = UUID.randomUUID();
+            if (jobs.containsKey(abandoned.getId())
+                    || jobRepository.takeOver(abandoned.getId(), abandoned.getOwner(), owner, now, staleBefore) == 0) {
+                continue;
+            }
+            abandoned.setOwner(owner);
+            if (!Files.exists(sourceOf(abandoned.getId()))) {
+                jobRepository.finish(abandoned.getId(), owner, ImportJobStatus.FAILED, IMPORT_SOURCE_LOST, now);
+                log.error("La importación {} no se puede retomar: no se encontró {}", abandoned.getId(),
+                        sourceOf(abandoned.getId()));
+                continue;
+            }
+            if (!enqueue(abandoned)) {
+                // Cola llena: lo retoma otra instancia o la siguiente revisión
+                jobRepository.release(abandoned.getId(), owner);
+                break;
+            }
+            log.info("Importación {} retomada desde la línea {}", abandoned.getId(), abandoned.getCommittedLine() + 1);
+            recovered++;
+        }
+        return recovered;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // Los trabajos que no alcanzaron a empezar quedan libres para otra instancia
+        jobs.values().forEach(this::release);
+    }
+
+    private boolean enqueue(EmployeeImportJob state) {
+        ImportJob job = new ImportJob(state, sourceOf(state.getId()), failureReportOf(state.getId()));
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+            return true;
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            return false;
+        }
+    }
+
+    /**
+     * Ejecuta el trabajo si nadie más lo tomó. El archivo recibido solo se elimina cuando el trabajo
+     * queda finalizado; si la aplicación se detiene, el trabajo se libera para retomarlo.
+     */
+    private void run(ImportJob job) {
+        boolean finished = false;
+        try {
+            if (jobRepository.start(job.getId(), job.getOwner(), LocalDateTime.now()) == 0) {
+                log.info("Importación {}: otra instancia tomó el trabajo antes de iniciarlo", job.getId());
+                return;
+            }
+            finished = importFile(job);
+        } catch (JobTakenOverException ex) {
+            log.warn("Importación {}: otra instancia retomó el trabajo; se detiene esta ejecución", job.getId());
+        } catch (IOException | RuntimeException ex) {
+            if (executor.isShutdown()) {
+                // Se limpia la interrupción para poder registrar la liberación en la BD
+                Thread.interrupted();
+                release(job);
+                log.info("Importación {} detenida después de la línea {}; se retomará desde allí", job.getId(),
+                        job.getCommittedLine());
+            } else {
+                finished = finish(job, ImportJobStatus.FAILED, String.format(IMPORT_INTERRUPTED, ex.getMessage()));
+                log.error("La importación {} se interrumpió después de {} filas", job.getId(), job.getProcessedRows(), ex);
+            }
+        } finally {
+            jobs.remove(job.getId());
+            if (finished) {
+                deleteQuietly(job.getSource());
+            }
+        }
+    }
+
+    /**
+     * Lee el archivo completo, omite los registros ya confirmados y confirma el resto en porciones.
+     *
+     * @return true si el trabajo quedó finalizado
+     */
+    private boolean importFile(ImportJob job) throws IOException {
+        int chunkSize = Math.clamp(importProperties.chunkSize(), 1, BATCH_MAX_SIZE);
+        long startNanos = System.nanoTime();
+        long resumedRows = job.getProcessedRows();
+        log.info("Iniciando importación {} en porciones de {} filas desde la línea {}", job.getId(), chunkSize,
+                job.getCommittedLine() + 1);
+
+        try (CsvRecordReader csv = open(job.getSource(), job.getBytesRead());
+             FailureReport report = FailureReport.open(job.getFailureReport(), job.getReportBytes())) {
+            // El encabezado ya se validó al recibir el archivo
+            int[] columns = columnsOf(csv.next());
+
+            List<EmployeeRequestDTO> chunk = new ArrayList<>(chunkSize);
+            List<Long> lines = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                // Los registros hasta committedLine los confirmó una ejecución anterior del trabajo
+                if (csv.getRecordLine() <= job.getCommittedLine() || (record.size() == 1 && record.getFirst().isBlank())) {
+                    continue;
+                }
+                chunk.add(EmployeeRequestDTO.builder()
+                        .name(field(record, columns[0]))
+                        .lastname(field(record, columns[1]))
+                        .email(field(record, columns[2]))
+                        .build());
+                lines.add(csv.getRecordLine());
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, lines, report);
+                    chunk.clear();
+                    lines.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, lines, report);
+            }
+        }
+
+        boolean finished = finish(job, ImportJobStatus.COMPLETED, null);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        log.info("Importación {} finalizada: {} filas, {} creadas, {} rechazadas ({} filas/s)", job.getId(),
+                job.getProcessedRows(), job.getCreatedRows(), job.getRejectedRows(),
+                elapsedNanos <= 0 ? 0 : (job.getProcessedRows() - resumedRows) * 1_000_000_000L / elapsedNanos);
+        return finished;
+    }
+
+    /**
+     * Un conflicto significa que otro proceso registró alguno de los emails durante la inserción: al
+     * reintentar, la porción lo detecta como duplicado. Un 503 significa que el límite de concurrencia
+     * de escrituras está completo: se espera cada vez más, hasta {@code maxBackoff}, a que baje la carga
+     * en lugar de competir con las peticiones o abandonar el trabajo.
+     */
+    private void importChunk(ImportJob job, List<EmployeeRequestDTO> chunk, List<Long> lines, FailureReport report)
+            throws IOException {
+        int conflicts = 0;
+        for (int attempt = 1; ; attempt++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("la aplicación se está deteniendo");
+            }
+            long delayMillis;
+            try {
+                commitChunk(job, chunk, lines, report);
+                return;
+            } catch (ConflictException ex) {
+                if (++conflicts == IMPORT_CHUNK_MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                delayMillis = conflicts * 1000L;
+                log.warn("Importación {}: porción rechazada ({}), reintento {} de {}", job.getId(), ex.getMessage(),
+                        conflicts, IMPORT_CHUNK_MAX_ATTEMPTS - 1);
+            } catch (ServiceUnavailableException ex) {
+                delayMillis = Math.min(importProperties.maxBackoff().toMillis(), 1000L << Math.min(attempt - 1, 16));
+                log.warn("Importación {}: escrituras saturadas ({}), reintento {} en {} ms", job.getId(),
+                        ex.getMessage(), attempt, delayMillis);
+            }
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("la aplicación se está deteniendo");
+            }
+        }
+    }
+
+    /**
+     * Inserta la porción y registra el avance en la misma transacción. Si la transacción no se confirma,
+     * el reporte de fallos vuelve al tamaño del último avance confirmado.
+     */
+    private void commitChunk(ImportJob job, List<EmployeeRequestDTO> chunk, List<Long> lines, FailureReport report)
+            throws IOException {
+        long committedLine = lines.getLast();
+        long[] outcome;
+        try {
+            outcome = chunkTransaction.execute(status -> {
+                List<BatchItemResultDTO> results = employeeService.createEmployeesBatch(chunk);
+                long created = 0;
+                long reportBytes;
+                try {
+                    for (BatchItemResultDTO result : results) {
+                        if (result.isCreated()) {
+                            created++;
+                        } else {
+                            report.write(lines.get(result.index()) + "," + result.status() + ","
+                                    + CsvValues.escape(result.email()) + "," + CsvValues.escape(result.message()));
+                        }
+                    }
+                    reportBytes = report.flush();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                long rejected = chunk.size() - created;
+                if (jobRepository.checkpoint(job.getId(), job.getOwner(), job.getBytesRead().get(), committedLine,
+                        reportBytes, job.getProcessedRows() + chunk.size(), job.getCreatedRows() + created,
+                        job.getRejectedRows() + rejected, LocalDateTime.now()) == 0) {
+                    throw new JobTakenOverException();
+                }
+                return new long[]{created, rejected, reportBytes};
+            });
+        } catch (JobTakenOverException ex) {
+            // El reporte ya pertenece a la ejecución que retomó el trabajo
+            throw ex;
+        } catch (UncheckedIOException ex) {
+            report.rollback(job.getReportBytes());
+            throw ex.getCause();
+        } catch (RuntimeException ex) {
+            report.rollback(job.getReportBytes());
+            throw ex;
+        }
+        job.advance(committedLine, outcome[2], outcome[0], outcome[1]);
+        createdRows.increment(outcome[0]);
+        rejectedRows.increment(outcome[1]);
+    }
+
+    /**
+     * @return true si el trabajo quedó finalizado con esta ejecución
+     */
+    private boolean finish(ImportJob job, ImportJobStatus status, String error) {
+        String reason = error == null || error.length() <= ERROR_MAX_LENGTH ? error : error.substring(0, ERROR_MAX_LENGTH);
+        try {
+            if (jobRepository.finish(job.getId(), job.getOwner(), status, reason, LocalDateTime.now()) == 1) {
+                return true;
+            }
+            log.warn("Importación {}: otra instancia retomó el trabajo antes de finalizarlo", job.getId());
+        } catch (RuntimeException ex) {
+            log.error("No fue posible registrar el fin de la importación {}; se retomará al vencer su señal de vida",
+                    job.getId(), ex);
+        }
+        return false;
+    }
+
+    private void release(ImportJob job) {
+        try {
+            jobRepository.release(job.getId(), job.getOwner());
+        } catch (RuntimeException ex) {
+            log.warn("No fue posible liberar la importación {}; se retomará al vencer su señal de vida: {}",
+                    job.getId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Valida que el encabezado del archivo recibido tenga las columnas requeridas.
+     *
+     * @throws BadRequestException si falta alguna columna
+     */
+    private static void readColumns(Path source) {
+        try (CsvRecordReader csv = open(source, new AtomicLong())) {
+            columnsOf(csv.next());
+        } catch (IOException ex) {
+            throw new InternalServerErrorException(IMPORT_FILE_ERROR, ex);
+        }
+    }
+
+    /**
+     * Ubica las columnas requeridas en el encabezado, sin distinguir mayúsculas ni orden.
+     *
+     * @return posición de name, lastname y email
+     * @throws BadRequestException si falta alguna columna
+     */
+    private static int[] columnsOf(List<String> header) {
+        if (header == null) {
+            throw new BadRequestException(IMPORT_MISSING_COLUMNS);
+        }
+        List<String> names = header.stream()
+                .map(name -> name.replace(BYTE_ORDER_MARK, "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] columns = new int[REQUIRED_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = names.indexOf(REQUIRED_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                throw new BadRequestException(IMPORT_MISSING_COLUMNS);
+            }
+        }
+        return columns;
+    }
+
+    private static CsvRecordReader open(Path source, AtomicLong bytesRead) throws IOException {
+        InputStream in = new CountingInputStream(Files.newInputStream(source), bytesRead);
+        return new CsvRecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @return valor de la columna, o null si la fila tiene menos columnas (lo rechaza la validación)
+     */
+    private static String field(List<String> record, int column) {
+        return column < record.size() ? record.get(column) : null;
+    }
+
+    private EmployeeImportJob findState(String jobId) {
+        UUID id;
+        try {
+            id = UUID.fromString(jobId);
+        } catch (IllegalArgumentException ex) {
+            // Un ID con formato inválido no corresponde a ningún trabajo
+            throw new ResourceNotFoundException(String.format(IMPORT_JOB_NOT_FOUND, jobId));
+        }
+        // El trabajo puede haberse creado o avanzado hace instantes en el primario
+        return ReplicaRoutingDataSource.onPrimary(() -> jobRepository.findById(id))
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(IMPORT_JOB_NOT_FOUND, jobId)));
+    }
+
+    private Path sourceOf(UUID id) {
+        return directory.resolve(id + ".csv");
+    }
+
+    private Path failureReportOf(UUID id) {
+        return directory.resolve(id + "-failures.csv");
+    }
+
+    private static ImportJobDTO toDTO(EmployeeImportJob state) {
+        return new ImportJobDTO(state.getId(), state.getStatus(), state.getFileName(), progress(state),
+                state.getProcessedRows(), state.getCreatedRows(), state.getRejectedRows(), rowsPerSecond(state),
+                state.getSubmittedAt(), state.getStartedAt(), state.getFinishedAt(), state.getError());
+    }
+
+    private static int progress(EmployeeImportJob state) {
+        if (state.getStatus() == ImportJobStatus.COMPLETED) {
+            return 100;
+        }
+        if (state.getTotalBytes() == 0) {
+            return 0;
+        }
+        // Se mide sobre los bytes leídos del disco al confirmar la última porción
+        return (int) Math.min(99, state.getBytesRead() * 100 / state.getTotalBytes());
+    }
+
+    private static long rowsPerSecond(EmployeeImportJob state) {
+        if (state.getStartedAt() == null) {
+            return 0;
+        }
+        LocalDateTime end = state.getFinishedAt() != null ? state.getFinishedAt() : LocalDateTime.now();
+        long elapsedMillis = Duration.between(state.getStartedAt(), end).toMillis();
+        return elapsedMillis <= 0 ? 0 : state.getProcessedRows() * 1000 / elapsedMillis;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("No fue posible eliminar el archivo {}: {}", path, ex.getMessage());
+        }
+    }
+
+    /**
+     * Reporte de fallos que se escribe a continuación del último avance confirmado.
+     */
+    private static final class FailureReport implements Closeable {
+
+        private final FileChannel channel;
+        private BufferedWriter writer;
+
+        private FailureReport(FileChannel channel) {
+            this.channel = channel;
+            this.writer = newWriter(channel);
+        }
+
+        /**
+         * Abre el reporte y descarta lo escrito después del último avance confirmado.
+         */
+        private static FailureReport open(Path path, long committedBytes) throws IOException {
+            FailureReport report = new FailureReport(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+            report.rollback(committedBytes);
+            if (committedBytes == 0) {
+                report.write(REPORT_HEADER);
+            }
+            return report;
+        }
+
+        private void write(String line) throws IOException {
+            writer.write(line);
+            writer.newLine();
+        }
+
+        /**
+         * @return tamaño del reporte con todo lo escrito
+         */
+        private long flush() throws IOException {
+            writer.flush();
+            return channel.position();
+        }
+
+        private void rollback(long size) throws IOException {
+            channel.truncate(size);
+            channel.position(Math.min(size, channel.size()));
+            // Descarta también lo que quedó en el buffer
+            writer = newWriter(channel);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static BufferedWriter newWriter(FileChannel channel) {
+            return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Otra instancia retomó el trabajo (esta dejó de dar señales de vida); la porción en curso se revierte.
+     */
+    private static final class JobTakenOverException extends RuntimeException {
+
+        private JobTakenOverException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Cuenta los bytes leídos del archivo para calcular el avance.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong bytesRead;
+
+        private CountingInputStream(InputStream in, AtomicLong bytesRead) {
+            super(in);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                bytesRead.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                bytesRead.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
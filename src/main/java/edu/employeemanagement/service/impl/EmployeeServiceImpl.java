@@ -1,18 +1,67 @@
 package edu.employeemanagement.service.impl;
 
+import edu.employeemanagement.cache.EmployeeCache;
+import edu.employeemanagement.cache.EmployeeReadCoalescer;
+import edu.employeemanagement.cache.ServedFromMemory;
+import edu.employeemanagement.config.PaginationProperties;
+import edu.employeemanagement.config.SearchProperties;
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.dto.request.EmployeeLookupRequestDTO;
 import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
 import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+import edu.employeemanagement.domain.dto.response.LookupItemResultDTO;
+import edu.employeemanagement.domain.dto.response.UpsertResultDTO;
 import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.enums.BatchItemStatus;
 import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import edu.employeemanagement.domain.projection.CollectionVersionProjection;
+import edu.employeemanagement.domain.projection.DeletedEmployeeProjection;
+import edu.employeemanagement.domain.projection.EmployeeUpsertProjection;
+import edu.employeemanagement.domain.projection.EmployeeVersionProjection;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ConflictException;
 import edu.employeemanagement.exception.DuplicateEmailException;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.exception.PreconditionFailedException;
 import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.index.AutocompleteIndex;
+import edu.employeemanagement.index.EmailIndex;
+import edu.employeemanagement.index.NameIndex;
 import edu.employeemanagement.repository.EmployeeRepository;
 import edu.employeemanagement.service.interfaces.IEmployeeService;
+import edu.employeemanagement.util.CursorCodec;
+import edu.employeemanagement.util.ETags;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static edu.employeemanagement.util.Constants.*;
 
@@ -22,10 +71,39 @@ public class EmployeeServiceImpl implements IEmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final PaginationProperties paginationProperties;
+    private final Validator validator;
+    private final EmployeeCache employeeCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailIndex emailIndex;
+    private final NameIndex nameIndex;
+    private final SearchProperties searchProperties;
+    private final AutocompleteIndex autocompleteIndex;
+    private final EmployeeReadCoalescer readCoalescer;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate verificationTransaction;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                               PaginationProperties paginationProperties, Validator validator,
+                               EmployeeCache employeeCache, ApplicationEventPublisher eventPublisher,
+                               EmailIndex emailIndex, NameIndex nameIndex, SearchProperties searchProperties,
+                               AutocompleteIndex autocompleteIndex, EmployeeReadCoalescer readCoalescer,
+                               PlatformTransactionManager transactionManager) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.paginationProperties = paginationProperties;
+        this.validator = validator;
+        this.employeeCache = employeeCache;
+        this.eventPublisher = eventPublisher;
+        this.emailIndex = emailIndex;
+        this.nameIndex = nameIndex;
+        this.searchProperties = searchProperties;
+        this.autocompleteIndex = autocompleteIndex;
+        this.readCoalescer = readCoalescer;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.verificationTransaction = new TransactionTemplate(transactionManager);
+        this.verificationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.verificationTransaction.setReadOnly(true);
     }
 
     /**
@@ -35,21 +113,84 @@ public class EmployeeServiceImpl implements IEmployeeService {
     @Transactional
     public EmployeeResponseDTO createEmployee(EmployeeRequestDTO employeeRequestDTO) {
         log.info("Creando empleado con email: {}", employeeRequestDTO.getEmail());
-        boolean isExistingEmployee = employeeRepository.existsByEmail(employeeRequestDTO.getEmail());
 
         // Validar email
-        if (isExistingEmployee) {
+        if (isExistingEmail(employeeRequestDTO.getEmail())) {
             log.warn("Intento de crear empleado con email duplicado: {} ", employeeRequestDTO.getEmail());
             throw new DuplicateEmailException(employeeRequestDTO.getEmail());
         }
 
         // Convertir DTO a entidad
         Employee employee = employeeMapper.toEntity(employeeRequestDTO);
-        //Guarda en BD
-        Employee savedEmployee = employeeRepository.save(employee);
+        //Guarda en BD (la restricción única del email es la validación definitiva)
+        Employee savedEmployee = saveAndFlush(employee);
         log.info("Empleado creado con éxito: {} ID: {}", savedEmployee.getName(), savedEmployee.getIdEmployee());
         // Convertir entidad a DTO de respuesta
-        return employeeMapper.toEmployeeResponseDTO(savedEmployee);
+        EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employeeResponseDTO));
+        return employeeResponseDTO;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchItemResultDTO> createEmployeesBatch(List<EmployeeRequestDTO> employeeRequestDTOs) {
+        validateBatchSize(employeeRequestDTOs);
+        log.info("Creando lote de {} empleados", employeeRequestDTOs.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[employeeRequestDTOs.size()];
+        Map<String, Integer> candidates = collectValidItems(employeeRequestDTOs, results);
+
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        try {
+            return transaction.execute(status -> insertBatch(employeeRequestDTOs, results, candidates, true));
+        } catch (ConflictException ex) {
+            // El índice no conoce todos los emails (creados en otra instancia o durante su reconstrucción)
+            if (joined) {
+                // La transacción externa ya no puede confirmarse: el índice aprende los emails para su reintento
+                learnExistingEmails(candidates.keySet());
+                throw ex;
+            }
+            log.warn("El índice de emails omitió duplicados del lote; se verifican todos los emails en la BD");
+            return transaction.execute(status -> insertBatch(employeeRequestDTOs, results, candidates, false));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public UpsertResultDTO upsertEmployeeByEmail(String email, EmployeeRequestDTO employeeRequestDTO) {
+        if (!employeeRequestDTO.getEmail().equals(email)) {
+            throw new BadRequestException(String.format(EMAIL_PATH_MISMATCH, email));
+        }
+        log.info("Creando o actualizando empleado con email: {}", email);
+        return upsert(employeeRequestDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<BatchItemResultDTO> upsertEmployeesBatch(List<EmployeeRequestDTO> employeeRequestDTOs) {
+        validateBatchSize(employeeRequestDTOs);
+        log.info("Creando o actualizando lote de {} empleados", employeeRequestDTOs.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[employeeRequestDTOs.size()];
+        Map<String, Integer> candidates = collectValidItems(employeeRequestDTOs, results);
+
+        // Una sentencia por elemento; el conflicto de email se resuelve en la BD, no con consultas previas
+        candidates.values().forEach(index -> {
+            UpsertResultDTO result = upsert(employeeRequestDTOs.get(index));
+            results[index] = result.created()
+                    ? BatchItemResultDTO.created(index, result.employee())
+                    : BatchItemResultDTO.updated(index, result.employee());
+        });
+
+        log.info("Lote procesado: {} creados o actualizados, {} rechazados", candidates.size(),
+                employeeRequestDTOs.size() - candidates.size());
+        return Arrays.asList(results);
     }
 
     /**
@@ -59,9 +200,9 @@ public class EmployeeServiceImpl implements IEmployeeService {
     @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> findAllEmployees() {
         log.info("Recuperando todos los empleados.");
-        List<Employee> employeeList = employeeRepository.findAll();
+        List<EmployeeResponseDTO> employeeList = employeeRepository.findAllResponses();
         log.info("Se encontraron {} empleados en el sistema.", employeeList.size());
-        return employeeMapper.toEmployeeResponseList(employeeList);
+        return employeeList;
     }
 
     /**
@@ -69,25 +210,190 @@ public class EmployeeServiceImpl implements IEmployeeService {
      */
     @Override
     @Transactional(readOnly = true)
+    public CursorPageDTO<EmployeeResponseDTO> findEmployeesPage(String cursor, Integer size) {
+        long lastId = CursorCodec.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        log.info("Recuperando página de empleados después del ID: {} (tamaño: {})", lastId, pageSize);
+
+        // Se pide un registro extra para saber si existe una página siguiente sin hacer un COUNT
+        List<EmployeeResponseDTO> employeeList = employeeRepository
+                .findResponsesAfterId(lastId, Limit.of(pageSize + 1));
+
+        boolean hasNext = employeeList.size() > pageSize;
+        List<EmployeeResponseDTO> pageContent = hasNext ? employeeList.subList(0, pageSize) : employeeList;
+        String nextCursor = hasNext
+                ? CursorCodec.encode(pageContent.getLast().idEmployee())
+                : null;
+
+        log.info("Se recuperaron {} empleados. ¿Hay más páginas?: {}", pageContent.size(), hasNext);
+        return new CursorPageDTO<>(pageContent, nextCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Sin transacción propia: las búsquedas simultáneas idénticas esperan la que está en curso
+     * sin tomar una conexión, y la consulta usa la transacción de solo lectura del repositorio.</p>
+     */
+    @Override
+    public CursorPageDTO<EmployeeResponseDTO> searchEmployees(String term, String cursor, Integer size) {
+        if (term == null || term.isBlank()) {
+            throw new BadRequestException(SEARCH_TERM_REQUIRED);
+        }
+        String searchTerm = term.trim();
+        int offset = CursorCodec.decodeOffset(cursor);
+        int pageSize = resolvePageSize(size);
+        log.info("Buscando empleados con el término: '{}' (posición: {}, tamaño: {})", searchTerm, offset, pageSize);
+        return readCoalescer.search(searchTerm, offset, pageSize, () -> search(searchTerm, offset, pageSize));
+    }
+
+    /**
+     * Ejecuta la búsqueda en el índice en memoria o, mientras se construye, en la BD si el respaldo
+     * está habilitado.
+     *
+     * @throws ServiceUnavailableException si el índice se está construyendo y el respaldo está deshabilitado
+     */
+    private CursorPageDTO<EmployeeResponseDTO> search(String searchTerm, int offset, int pageSize) {
+        if (!nameIndex.isReady() && !searchProperties.fallbackToDatabase()) {
+            throw new ServiceUnavailableException(SEARCH_INDEX_NOT_READY);
+        }
+        // Se pide un registro extra para saber si existe una página siguiente
+        List<EmployeeResponseDTO> employeeList;
+        if (nameIndex.isReady()) {
+            List<Long> ids = nameIndex.search(searchTerm, offset, pageSize + 1);
+            Map<Long, EmployeeResponseDTO> employeesById = ids.isEmpty()
+                    ? Map.of()
+                    : employeeRepository.findResponsesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(EmployeeResponseDTO::idEmployee, Function.identity()));
+            employeeList = ids.stream().map(employeesById::get).filter(Objects::nonNull).toList();
+        } else {
+            log.debug("Índice de búsqueda en construcción; se usa la consulta en BD");
+            List<EmployeeResponseDTO> matches = employeeRepository
+                    .searchResponsesOrderById(searchTerm, Limit.of(offset + pageSize + 1));
+            employeeList = matches.subList(Math.min(offset, matches.size()), matches.size());
+        }
+
+        boolean hasNext = employeeList.size() > pageSize;
+        List<EmployeeResponseDTO> pageContent = hasNext ? employeeList.subList(0, pageSize) : employeeList;
+        String nextCursor = hasNext ? CursorCodec.encodeOffset(offset + pageSize) : null;
+
+        log.info("La búsqueda '{}' devolvió {} empleados. ¿Hay más páginas?: {}", searchTerm, pageContent.size(), hasNext);
+        return new CursorPageDTO<>(pageContent, nextCursor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EmployeeSuggestionDTO> autocompleteEmployees(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new BadRequestException(PREFIX_REQUIRED);
+        }
+        int maxSuggestions = limit == null || limit <= 0
+                ? AUTOCOMPLETE_DEFAULT_LIMIT
+                : Math.min(limit, AUTOCOMPLETE_MAX_LIMIT);
+        log.debug("Autocompletando empleados con el prefijo: '{}'", prefix);
+        ServedFromMemory.mark();
+        return autocompleteIndex.search(prefix.stripLeading(), maxSuggestions);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>No abre una transacción propia: un acierto en caché no debe tomar una conexión del pool.
+     * En caso de fallo, el repositorio usa su propia transacción de solo lectura, y los fallos
+     * simultáneos del mismo ID comparten una sola consulta ({@link EmployeeReadCoalescer}).</p>
+     */
+    @Override
     public EmployeeResponseDTO findEmployeeById(Long id) {
         log.info("Buscando empleado con ID: {}", id);
-        Employee existingEmployee = employeeRepository.findById(id)
+        Optional<EmployeeResponseDTO> cached = employeeCache.getById(id);
+        if (cached.isPresent()) {
+            ServedFromMemory.mark();
+            return cached.get();
+        }
+        return readCoalescer.findById(id, () -> {
+            long stamp = employeeCache.invalidationStamp(id);
+            Employee existingEmployee = employeeRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+            log.debug("Empleado encontrado: {} con ID: {}", existingEmployee.getName(), id);
+            EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(existingEmployee);
+            employeeCache.putIfNotInvalidated(employeeResponseDTO, id, stamp);
+            return employeeResponseDTO;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Sin transacción propia: si todo está en caché no se toma ninguna conexión.</p>
+     */
+    @Override
+    public List<LookupItemResultDTO> lookupEmployees(EmployeeLookupRequestDTO lookupRequestDTO) {
+        List<Long> ids = Objects.requireNonNullElse(lookupRequestDTO.getIds(), List.of());
+        List<String> emails = Objects.requireNonNullElse(lookupRequestDTO.getEmails(), List.of());
+        int requested = ids.size() + emails.size();
+        if (requested == 0) {
+            throw new BadRequestException(EMPTY_LOOKUP);
+        }
+        if (requested > LOOKUP_MAX_SIZE) {
+            throw new BadRequestException(String.format(LOOKUP_TOO_LARGE, LOOKUP_MAX_SIZE));
+        }
+        log.info("Búsqueda múltiple de {} IDs y {} emails", ids.size(), emails.size());
+
+        Map<Long, EmployeeResponseDTO> employeesById = resolveAll(ids, employeeCache::getById,
+                employeeRepository::findResponsesByIdIn, EmployeeResponseDTO::idEmployee);
+        Map<String, EmployeeResponseDTO> employeesByEmail = resolveAll(emails, employeeCache::getByEmail,
+                employeeRepository::findResponsesByEmailIn, EmployeeResponseDTO::email);
+
+        List<LookupItemResultDTO> results = new ArrayList<>(requested);
+        ids.forEach(id -> results.add(LookupItemResultDTO.forId(id, employeesById.get(id))));
+        emails.forEach(email -> results.add(LookupItemResultDTO.forEmail(email, employeesByEmail.get(email))));
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String findEmployeeETag(Long id) {
+        Optional<EmployeeResponseDTO> cached = employeeCache.getById(id);
+        if (cached.isPresent()) {
+            ServedFromMemory.mark();
+            return ETags.forEmployee(cached.get());
+        }
+        return employeeRepository.findVersionById(id)
+                .map(version -> ETags.forEmployee(version.idEmployee(), version.version()))
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
-        log.debug("Empleado encontrado: {} con ID: {}", existingEmployee.getName(), id);
-        return employeeMapper.toEmployeeResponseDTO(existingEmployee);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    public String findEmployeesETag() {
+        CollectionVersionProjection version = employeeRepository.findCollectionVersion();
+        return ETags.forCollection(version.getEmployeesXid(), version.getTombstonesXid());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Al igual que {@link #findEmployeeById(Long)}, la transacción solo se abre si hay un fallo de caché.</p>
+     */
+    @Override
     public EmployeeResponseDTO findEmployeeByEmail(String email) {
         log.info("Buscando empleado con email: {}", email);
-        Employee employee = employeeRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND_EMAIL, email)));
-        log.info("Empleado encontrado: {} con email: {}", employee.getName(), employee.getEmail());
-        return employeeMapper.toEmployeeResponseDTO(employee);
+        Optional<EmployeeResponseDTO> cached = employeeCache.getByEmail(email);
+        if (cached.isPresent()) {
+            ServedFromMemory.mark();
+            return cached.get();
+        }
+        return readCoalescer.findByEmail(email, () -> {
+            long stamp = employeeCache.invalidationStamp(email);
+            Employee employee = employeeRepository.findByEmail(email)
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND_EMAIL, email)));
+            log.info("Empleado encontrado: {} con email: {}", employee.getName(), employee.getEmail());
+            EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(employee);
+            employeeCache.putIfNotInvalidated(employeeResponseDTO, email, stamp);
+            return employeeResponseDTO;
+        });
     }
 
     /**
@@ -95,18 +401,62 @@ public class EmployeeServiceImpl implements IEmployeeService {
      */
     @Override
     @Transactional
-    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO employeeRequestDTO) {
-        log.info("Actualizando empleado con ID: {}", id);
-        Employee existingEmployee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO employeeRequestDTO, Set<Long> expectedVersions) {
+        log.info("Actualizando empleado con ID: {} (versiones esperadas: {})", id, expectedVersions);
+        Long expectedVersion = resolveExpectedVersion(id, expectedVersions);
 
-        log.debug("Empleado encontrado: {} {}", existingEmployee.getName(), existingEmployee.getLastname());
-        employeeMapper.updateEntityFromDTO(existingEmployee, employeeRequestDTO);
+        // Un único UPDATE condicionado por ID (y versión); la unicidad del email la garantiza la restricción de la BD
+        Optional<String> previousEmail;
+        try {
+            previousEmail = employeeRepository.updateEmployee(id, employeeRequestDTO.getName(),
+                    employeeRequestDTO.getLastname(), employeeRequestDTO.getEmail(), LocalDateTime.now(), expectedVersion);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Intento de actualizar empleado con email duplicado: {} ", employeeRequestDTO.getEmail());
+            throw new DuplicateEmailException(employeeRequestDTO.getEmail());
+        }
 
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
-        log.info("Empleado actualizado exitosamente: {} (ID: {})", updatedEmployee.getName(), updatedEmployee.getIdEmployee());
+        if (previousEmail.isEmpty()) {
+            // Solo en el camino de error se distingue "no existe" de "versión distinta"
+            if (expectedVersion == null || !employeeRepository.existsById(id)) {
+                throw new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id));
+            }
+            log.warn("Conflicto de versión al actualizar empleado con ID: {}", id);
+            throw new PreconditionFailedException(String.format(EMPLOYEE_VERSION_MISMATCH, id));
+        }
+
+        EmployeeResponseDTO employeeResponseDTO = employeeRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+        log.info("Empleado actualizado exitosamente: {} (ID: {}, versión: {})",
+                employeeResponseDTO.name(), id, employeeResponseDTO.version());
+
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(employeeResponseDTO, previousEmail.get()));
+        return employeeResponseDTO;
+    }
 
-        return employeeMapper.toEmployeeResponseDTO(updatedEmployee);
+    /**
+     * Un solo ETag se verifica en el mismo UPDATE. Con una lista, la condición se cumple si la versión
+     * actual es alguna de las indicadas: se lee la versión y el UPDATE se condiciona a ella, así que un
+     * cambio entre la lectura y la escritura también hace fallar la condición.
+     *
+     * @return versión a exigir en el UPDATE, o null si no hay condición
+     * @throws ResourceNotFoundException si el empleado no existe
+     * @throws PreconditionFailedException si la versión actual no está entre las indicadas
+     */
+    private Long resolveExpectedVersion(Long id, Set<Long> expectedVersions) {
+        if (expectedVersions == null) {
+            return null;
+        }
+        if (expectedVersions.size() == 1) {
+            return expectedVersions.iterator().next();
+        }
+        Long currentVersion = employeeRepository.findVersionById(id)
+                .map(EmployeeVersionProjection::version)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+        if (!expectedVersions.contains(currentVersion)) {
+            log.warn("Conflicto de versión al actualizar empleado con ID: {}", id);
+            throw new PreconditionFailedException(String.format(EMPLOYEE_VERSION_MISMATCH, id));
+        }
+        return currentVersion;
     }
 
     /**
@@ -116,11 +466,234 @@ public class EmployeeServiceImpl implements IEmployeeService {
     @Transactional
     public void deleteEmployeeById(Long id) {
         log.info("Eliminando empleado con ID: {}", id);
-        Employee existingEmployee = employeeRepository.findById(id)
+        DeletedEmployeeProjection deleted = employeeRepository.deleteEmployeeById(id, LocalDateTime.now())
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+        log.info("Empleado eliminado exitosamente (ID: {})", id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id, deleted.getEmail(), deleted.getCreatedAt()));
+    }
 
-        employeeRepository.delete(existingEmployee);
-        log.info("Empleado eliminado exitosamente: {} (ID: {})", existingEmployee.getName(), existingEmployee.getIdEmployee());
+    /**
+     * Verifica si un email ya está registrado, consultando la BD solo cuando el índice
+     * en memoria no puede descartarlo.
+     *
+     * @param email email a verificar
+     * @return true si el email existe en la BD
+     */
+    private boolean isExistingEmail(String email) {
+        return emailIndex.mightContain(email) && employeeRepository.existsByEmail(email);
+    }
 
+    /**
+     * Inserta un empleado y fuerza el flush para detectar la violación de la restricción única
+     * del email (por ejemplo, si otro proceso lo registró después de la validación).
+     *
+     * @param employee entidad nueva
+     * @return entidad guardada con su ID asignado
+     * @throws DuplicateEmailException si el email ya está registrado
+     */
+    private Employee saveAndFlush(Employee employee) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Restricción única violada al crear empleado con email: {}", employee.getEmail());
+            throw new DuplicateEmailException(employee.getEmail());
+        }
+    }
+
+    /**
+     * Inserta los candidatos del lote que no estén registrados y publica sus eventos.
+     *
+     * @param employeeRequestDTOs empleados solicitados
+     * @param results             resultados por ítem (los inválidos ya están completos)
+     * @param candidates          emails válidos y únicos del lote con su índice
+     * @param trustIndex          false para consultar en la BD todos los emails, sin descartar por el índice
+     * @return resultados por ítem en el orden de la solicitud
+     * @throws ConflictException si otro proceso registró alguno de los emails no consultados
+     */
+    private List<BatchItemResultDTO> insertBatch(List<EmployeeRequestDTO> employeeRequestDTOs,
+                                                 BatchItemResultDTO[] results, Map<String, Integer> candidates,
+                                                 boolean trustIndex) {
+        // Una sola consulta, solo para los emails que el índice no puede descartar
+        List<String> possibleDuplicates = candidates.keySet().stream()
+                .filter(email -> !trustIndex || emailIndex.mightContain(email))
+                .toList();
+        Set<String> existingEmails = possibleDuplicates.isEmpty()
+                ? Set.of()
+                : employeeRepository.findExistingEmails(possibleDuplicates);
+        if (!trustIndex) {
+            existingEmails.forEach(emailIndex::add);
+        }
+
+        List<Employee> employeesToInsert = new ArrayList<>(candidates.size());
+        List<Integer> insertedIndexes = new ArrayList<>(candidates.size());
+        candidates.forEach((email, index) -> {
+            if (existingEmails.contains(email)) {
+                results[index] = duplicateEmail(index, email);
+            } else {
+                employeesToInsert.add(employeeMapper.toEntity(employeeRequestDTOs.get(index)));
+                insertedIndexes.add(index);
+            }
+        });
+
+        if (!employeesToInsert.isEmpty()) {
+            List<Employee> savedEmployees = saveAllAndFlush(employeesToInsert);
+            for (int i = 0; i < savedEmployees.size(); i++) {
+                int index = insertedIndexes.get(i);
+                EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(savedEmployees.get(i));
+                eventPublisher.publishEvent(EmployeeChangedEvent.created(employeeResponseDTO));
+                results[index] = BatchItemResultDTO.created(index, employeeResponseDTO);
+            }
+        }
+
+        log.info("Lote procesado: {} creados, {} rechazados", employeesToInsert.size(),
+                employeeRequestDTOs.size() - employeesToInsert.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Agrega al índice los emails ya registrados, consultándolos en el principal en una transacción propia
+     * (la actual quedó abortada por la violación de la restricción única).
+     *
+     * @param emails emails a verificar
+     */
+    private void learnExistingEmails(Collection<String> emails) {
+        try {
+            Set<String> existingEmails = ReplicaRoutingDataSource.onPrimary(() ->
+                    verificationTransaction.execute(status -> employeeRepository.findExistingEmails(emails)));
+            if (existingEmails != null) {
+                existingEmails.forEach(emailIndex::add);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("No fue posible verificar los emails del lote rechazado: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Inserta los empleados y fuerza el flush para que Hibernate los envíe en lotes JDBC
+     * (hibernate.jdbc.batch_size) y los errores de la BD se detecten dentro del servicio.
+     *
+     * @param employees entidades nuevas a insertar
+     * @return entidades guardadas con su ID asignado
+     * @throws ConflictException si otro proceso registró alguno de los emails
+     */
+    private List<Employee> saveAllAndFlush(List<Employee> employees) {
+        try {
+            return employeeRepository.saveAllAndFlush(employees);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Conflicto de integridad al insertar el lote: {}", ex.getMostSpecificCause().getMessage());
+            throw new ConflictException(BATCH_CONFLICT, ex);
+        }
+    }
+
+    /**
+     * Ejecuta el upsert nativo de un empleado y publica el evento que corresponda.
+     *
+     * @param employeeRequestDTO datos del empleado (ya validados)
+     * @return empleado resultante e indicador de creación
+     */
+    private UpsertResultDTO upsert(EmployeeRequestDTO employeeRequestDTO) {
+        EmployeeUpsertProjection row = employeeRepository.upsertByEmail(employeeRequestDTO.getName(),
+                employeeRequestDTO.getLastname(), employeeRequestDTO.getEmail(), LocalDateTime.now());
+        EmployeeResponseDTO employeeResponseDTO = employeeMapper.toEmployeeResponseDTO(row);
+        boolean created = Boolean.TRUE.equals(row.getInserted());
+
+        log.info("Empleado {} por email: {} (ID: {})", created ? "creado" : "actualizado",
+                employeeResponseDTO.email(), employeeResponseDTO.idEmployee());
+        eventPublisher.publishEvent(created
+                ? EmployeeChangedEvent.created(employeeResponseDTO)
+                : EmployeeChangedEvent.updated(employeeResponseDTO));
+        return new UpsertResultDTO(employeeResponseDTO, created);
+    }
+
+    /**
+     * Resuelve un conjunto de llaves (IDs o emails) primero desde la caché y luego, solo para los
+     * faltantes, con consultas {@code IN (...)} de a {@code LOOKUP_CHUNK_SIZE} valores.
+     * Los empleados obtenidos de la BD se guardan en la caché si no cambiaron durante la consulta.
+     *
+     * @param keys        llaves solicitadas (pueden repetirse o ser null)
+     * @param cacheLookup búsqueda en caché por llave
+     * @param query       consulta por bloque de llaves
+     * @param keyOf       llave de un empleado
+     * @return empleados encontrados por llave
+     */
+    private <K> Map<K, EmployeeResponseDTO> resolveAll(List<K> keys,
+                                                       Function<K, Optional<EmployeeResponseDTO>> cacheLookup,
+                                                       Function<Collection<K>, List<EmployeeResponseDTO>> query,
+                                                       Function<EmployeeResponseDTO, K> keyOf) {
+        Map<K, EmployeeResponseDTO> found = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            if (key != null) {
+                cacheLookup.apply(key).ifPresentOrElse(employee -> found.put(key, employee), () -> misses.add(key));
+            }
+        }
+        log.debug("Búsqueda múltiple: {} llaves desde caché, {} consultadas en BD", found.size(), misses.size());
+
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<K> chunk = misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size()));
+            Map<K, Long> stamps = new HashMap<>();
+            chunk.forEach(key -> stamps.put(key, employeeCache.invalidationStamp(key)));
+            for (EmployeeResponseDTO employee : query.apply(chunk)) {
+                K key = keyOf.apply(employee);
+                employeeCache.putIfNotInvalidated(employee, key, stamps.getOrDefault(key, Long.MIN_VALUE));
+                found.put(key, employee);
+            }
+        }
+        return found;
+    }
+
+    private static void validateBatchSize(List<EmployeeRequestDTO> employeeRequestDTOs) {
+        if (employeeRequestDTOs == null || employeeRequestDTOs.isEmpty()) {
+            throw new BadRequestException(EMPTY_BATCH);
+        }
+        if (employeeRequestDTOs.size() > BATCH_MAX_SIZE) {
+            throw new BadRequestException(String.format(BATCH_TOO_LARGE, BATCH_MAX_SIZE));
+        }
+    }
+
+    /**
+     * Valida cada elemento del lote y descarta los emails repetidos dentro del mismo lote.
+     * Los elementos rechazados quedan registrados en {@code results}.
+     *
+     * @param employeeRequestDTOs elementos del lote
+     * @param results             resultados por posición
+     * @return emails válidos y su posición en el lote, en el orden original
+     */
+    private Map<String, Integer> collectValidItems(List<EmployeeRequestDTO> employeeRequestDTOs,
+                                                   BatchItemResultDTO[] results) {
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < employeeRequestDTOs.size(); i++) {
+            EmployeeRequestDTO employeeRequestDTO = employeeRequestDTOs.get(i);
+            Set<ConstraintViolation<EmployeeRequestDTO>> violations = validator.validate(employeeRequestDTO);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" "));
+                results[i] = BatchItemResultDTO.rejected(i, BatchItemStatus.VALIDATION_ERROR,
+                        employeeRequestDTO.getEmail(), message);
+            } else if (candidates.putIfAbsent(employeeRequestDTO.getEmail(), i) != null) {
+                results[i] = duplicateEmail(i, employeeRequestDTO.getEmail());
+            }
+        }
+        return candidates;
+    }
+
+    private static BatchItemResultDTO duplicateEmail(int index, String email) {
+        return BatchItemResultDTO.rejected(index, BatchItemStatus.DUPLICATE_EMAIL, email,
+                String.format(EMAIL_ALREADY_EXISTS, email));
+    }
+
+    /**
+     * Ajusta el tamaño de página solicitado a los límites configurados.
+     *
+     * @param size tamaño solicitado por el cliente (puede ser null)
+     * @return tamaño de página entre 1 y el máximo configurado
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return paginationProperties.defaultSize();
+        }
+        return Math.min(size, paginationProperties.maxSize());
     }
 }
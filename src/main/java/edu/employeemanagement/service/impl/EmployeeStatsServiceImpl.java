@@ -0,0 +1,79 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.config.StatsProperties;
+import edu.employeemanagement.domain.dto.response.EmployeeStatsDTO;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.service.interfaces.IEmployeeStatsService;
+import edu.employeemanagement.stats.EmployeeStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static edu.employeemanagement.util.Constants.STATS_NOT_READY;
+
+@Slf4j
+@Service
+public class EmployeeStatsServiceImpl implements IEmployeeStatsService {
+
+    private final EmployeeStatistics employeeStatistics;
+    private final StatsProperties statsProperties;
+
+    public EmployeeStatsServiceImpl(EmployeeStatistics employeeStatistics, StatsProperties statsProperties) {
+        this.employeeStatistics = employeeStatistics;
+        this.statsProperties = statsProperties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EmployeeStatsDTO getStats(Integer days, Integer months) {
+        if (!employeeStatistics.isReady()) {
+            throw new ServiceUnavailableException(STATS_NOT_READY);
+        }
+        int dayCount = resolve(days, statsProperties.defaultDays(), statsProperties.maxDays());
+        int monthCount = resolve(months, statsProperties.defaultMonths(), statsProperties.maxMonths());
+        log.info("Calculando estadísticas de empleados ({} días, {} meses)", dayCount, monthCount);
+
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(dayCount - 1L);
+        YearMonth currentMonth = YearMonth.from(today);
+        YearMonth firstMonth = currentMonth.minusMonths(monthCount - 1L);
+
+        // Se parte de todos los días y meses en cero para que las series no tengan huecos
+        Map<String, Long> hiresByDay = new LinkedHashMap<>();
+        for (LocalDate day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+            hiresByDay.put(day.toString(), 0L);
+        }
+        Map<String, Long> hiresByMonth = new LinkedHashMap<>();
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            hiresByMonth.put(month.toString(), 0L);
+        }
+        employeeStatistics.hiresByDay().forEach((day, hires) -> {
+            hiresByDay.computeIfPresent(day.toString(), (key, total) -> total + hires);
+            hiresByMonth.computeIfPresent(YearMonth.from(day).toString(), (key, total) -> total + hires);
+        });
+
+        Map<String, Long> emailDomains = new LinkedHashMap<>();
+        employeeStatistics.countByDomain().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(statsProperties.topDomains())
+                .forEach(entry -> emailDomains.put(entry.getKey(), entry.getValue()));
+
+        return new EmployeeStatsDTO(employeeStatistics.headcount(), hiresByDay, hiresByMonth, emailDomains,
+                employeeStatistics.getReconciledAt());
+    }
+
+    private static int resolve(Integer requested, int defaultValue, int maxValue) {
+        if (requested == null || requested <= 0) {
+            return defaultValue;
+        }
+        return Math.min(requested, maxValue);
+    }
+}
@@ -0,0 +1,162 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.config.ChangesProperties;
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.dto.response.EmployeeChangesDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.TombstoneDTO;
+import edu.employeemanagement.domain.entity.EmployeeTombstone;
+import edu.employeemanagement.domain.projection.EmployeeChangeProjection;
+import edu.employeemanagement.exception.ConflictException;
+import edu.employeemanagement.repository.EmployeeRepository;
+import edu.employeemanagement.repository.EmployeeTombstoneRepository;
+import edu.employeemanagement.service.interfaces.IEmployeeSyncService;
+import edu.employeemanagement.util.CursorCodec;
+import edu.employeemanagement.util.CursorCodec.Watermark;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static edu.employeemanagement.util.Constants.CHANGES_WATERMARK_EXPIRED;
+
+@Slf4j
+@Service
+public class EmployeeSyncServiceImpl implements IEmployeeSyncService {
+
+    // Las filas anteriores a la secuencia de cambios tienen change_xid 0
+    private static final long INITIAL_SYNC = 0L;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeTombstoneRepository employeeTombstoneRepository;
+    private final ChangesProperties changesProperties;
+
+    public EmployeeSyncServiceImpl(EmployeeRepository employeeRepository,
+                                   EmployeeTombstoneRepository employeeTombstoneRepository,
+                                   ChangesProperties changesProperties) {
+        this.employeeRepository = employeeRepository;
+        this.employeeTombstoneRepository = employeeTombstoneRepository;
+        this.changesProperties = changesProperties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeChangesDTO findChangesSince(String since, Integer size) {
+        // Una réplica atrasada no devolvería cambios ya confirmados en el principal y la marca
+        // de agua los saltaría para siempre: la sincronización siempre lee del principal
+        return ReplicaRoutingDataSource.onPrimary(() -> loadChangesSince(since, size));
+    }
+
+    private EmployeeChangesDTO loadChangesSince(String since, Integer size) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int pageSize = resolvePageSize(size);
+
+        Watermark watermark = CursorCodec.decodeWatermark(since);
+        boolean initialSync = watermark == null;
+        if (initialSync) {
+            watermark = new Watermark(INITIAL_SYNC, 0L, now);
+        } else if (watermark.issuedAt().isBefore(now.minus(changesProperties.retention()))) {
+            throw new ConflictException(String.format(CHANGES_WATERMARK_EXPIRED, since));
+        }
+
+        // Toda transacción anterior al xmin ya terminó: solo se entregan sus cambios, de modo que una
+        // transacción que confirma tarde no queda por detrás de una marca de agua ya entregada
+        long snapshotXmin = employeeRepository.findSnapshotXmin();
+        if (watermark.isFromDate()) {
+            watermark = resolveDate(watermark, snapshotXmin);
+        }
+        log.info("Recuperando cambios de empleados desde la transacción {} (ID: {}, tamaño: {})",
+                watermark.changeXid(), watermark.idEmployee(), pageSize);
+
+        if (watermark.changeXid() >= snapshotXmin) {
+            return new EmployeeChangesDTO(List.of(), List.of(),
+                    CursorCodec.encodeWatermark(new Watermark(watermark.changeXid(), watermark.idEmployee(), now)), false);
+        }
+
+        List<EmployeeChangeProjection> changed = employeeRepository.findChangedSince(
+                watermark.changeXid(), watermark.idEmployee(), snapshotXmin, Limit.of(pageSize + 1));
+        // En la sincronización inicial el cliente no tiene datos previos: las eliminaciones no aplican
+        List<EmployeeTombstone> deleted = initialSync
+                ? List.of()
+                : employeeTombstoneRepository.findDeletedSince(
+                watermark.changeXid(), watermark.idEmployee(), snapshotXmin, Limit.of(pageSize + 1));
+
+        // Mezcla de ambas listas ya ordenadas por (transacción, ID) hasta completar la página
+        List<EmployeeResponseDTO> upserts = new ArrayList<>();
+        List<TombstoneDTO> deletions = new ArrayList<>();
+        long lastChangeXid = 0L;
+        long lastId = 0L;
+        int u = 0;
+        int d = 0;
+        while (upserts.size() + deletions.size() < pageSize && (u < changed.size() || d < deleted.size())) {
+            boolean takeUpsert = d >= deleted.size()
+                    || (u < changed.size() && compare(changed.get(u), deleted.get(d)) < 0);
+            if (takeUpsert) {
+                EmployeeChangeProjection employee = changed.get(u++);
+                upserts.add(employee.toResponseDTO());
+                lastChangeXid = employee.changeXid();
+                lastId = employee.idEmployee();
+            } else {
+                EmployeeTombstone tombstone = deleted.get(d++);
+                deletions.add(new TombstoneDTO(tombstone.getIdEmployee(), tombstone.getDeletedAt()));
+                lastChangeXid = tombstone.getChangeXid();
+                lastId = tombstone.getIdEmployee();
+            }
+        }
+        boolean hasMore = u < changed.size() || d < deleted.size();
+
+        // Sin más cambios la marca avanza hasta el xmin para que la siguiente consulta no vuelva a recorrerlos
+        Watermark next = hasMore
+                ? new Watermark(lastChangeXid, lastId, now)
+                : new Watermark(snapshotXmin, 0L, now);
+
+        log.info("Cambios de empleados recuperados: {} creados o modificados, {} eliminados (más: {})",
+                upserts.size(), deletions.size(), hasMore);
+        return new EmployeeChangesDTO(upserts, deletions, CursorCodec.encodeWatermark(next), hasMore);
+    }
+
+    /**
+     * Traduce una fecha a la primera transacción que creó, modificó o eliminó un empleado desde entonces.
+     * Las fechas las asigna la aplicación, así que la posición es aproximada: puede repetir algunos cambios previos.
+     */
+    private Watermark resolveDate(Watermark watermark, long snapshotXmin) {
+        long firstChangeXid = Math.min(
+                employeeRepository.findFirstChangeXidSince(watermark.issuedAt()).orElse(snapshotXmin),
+                employeeTombstoneRepository.findFirstChangeXidSince(watermark.issuedAt()).orElse(snapshotXmin));
+        return new Watermark(firstChangeXid, 0L, watermark.issuedAt());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.changes.compaction-cron:0 30 3 * * *}")
+    public int compactTombstones() {
+        LocalDateTime before = LocalDateTime.now().minus(changesProperties.retention());
+        int removed = employeeTombstoneRepository.deleteByDeletedAtBefore(before);
+        log.info("Compactación de marcas de eliminación: {} eliminadas (anteriores a {})", removed, before);
+        return removed;
+    }
+
+    private static int compare(EmployeeChangeProjection employee, EmployeeTombstone tombstone) {
+        int byXid = Long.compare(employee.changeXid(), tombstone.getChangeXid());
+        return byXid != 0 ? byXid : Long.compare(employee.idEmployee(), tombstone.getIdEmployee());
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return changesProperties.defaultSize();
+        }
+        return Math.min(size, changesProperties.maxSize());
+    }
+}
@@ -0,0 +1,18 @@
+package edu.employeemanagement.service.interfaces;
+
+import edu.employeemanagement.domain.enums.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface IEmployeeExportService {
+
+    /**
+     * Exporta el directorio completo de empleados escribiendo fila por fila en el stream de salida.
+     * <p>Los empleados se leen con un cursor JDBC y se desprenden del contexto de persistencia
+     * a medida que se escriben, por lo que el uso de memoria es constante.</p>
+     *
+     * @param format       formato de salida (NDJSON o CSV)
+     * @param outputStream stream de la respuesta HTTP
+     */
+    void exportEmployees(ExportFormat format, OutputStream outputStream);
+}
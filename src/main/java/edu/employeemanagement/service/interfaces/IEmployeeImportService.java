@@ -0,0 +1,64 @@
+package edu.employeemanagement.service.interfaces;
+
+import edu.employeemanagement.domain.dto.response.ImportJobDTO;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ConflictException;
+import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+
+public interface IEmployeeImportService {
+
+    /**
+     * Recibe un CSV de empleados y lo encola para importarlo en segundo plano.
+     * <p>El archivo se guarda en disco y se lee en streaming; cada fila se valida con las reglas de
+     * {@code EmployeeRequestDTO} y las filas se confirman en porciones de tamaño configurable. Las
+     * filas rechazadas (validación o email duplicado) se registran en el reporte de fallos. El estado y el
+     * avance se guardan en la BD junto con cada porción, así que cualquier instancia puede consultarlo y
+     * retomar el trabajo si la instancia que lo ejecuta se detiene.</p>
+     *
+     * @param file CSV con encabezado que incluya las columnas name, lastname y email
+     * @return trabajo creado, en estado QUEUED
+     * @throws BadRequestException si no llega el archivo o al encabezado le faltan columnas
+     * @throws ServiceUnavailableException si la cola de trabajos está llena
+     */
+    ImportJobDTO submitImport(MultipartFile file);
+
+    /**
+     * Obtiene el estado, el avance y el rendimiento de un trabajo de importación, sin importar la instancia
+     * que lo recibió.
+     *
+     * @param jobId identificador del trabajo
+     * @return estado del trabajo
+     * @throws ResourceNotFoundException si el trabajo no existe o ya se depuró
+     */
+    ImportJobDTO findImportJob(String jobId);
+
+    /**
+     * Obtiene el reporte de fallos (CSV con línea, estado, email y mensaje) de un trabajo finalizado.
+     *
+     * @param jobId identificador del trabajo
+     * @return ruta del reporte
+     * @throws ResourceNotFoundException si el trabajo no existe o ya se depuró
+     * @throws ConflictException si el trabajo aún no finaliza
+     * @throws ResourceNotFoundException si el reporte no está en el directorio de esta instancia
+     */
+    Path findFailureReport(String jobId);
+
+    /**
+     * Elimina el estado y el reporte de los trabajos finalizados hace más que la retención configurada.
+     *
+     * @return cantidad de trabajos depurados
+     */
+    int purgeFinishedJobs();
+
+    /**
+     * Renueva la señal de vida de los trabajos de esta instancia y retoma, desde su última porción
+     * confirmada, los trabajos sin terminar que ninguna instancia atiende.
+     *
+     * @return cantidad de trabajos retomados
+     */
+    int recoverAbandonedJobs();
+}
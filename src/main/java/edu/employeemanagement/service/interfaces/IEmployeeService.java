@@ -1,11 +1,22 @@
 package edu.employeemanagement.service.interfaces;
 
+import edu.employeemanagement.domain.dto.request.EmployeeLookupRequestDTO;
 import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
 import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+import edu.employeemanagement.domain.dto.response.LookupItemResultDTO;
+import edu.employeemanagement.domain.dto.response.UpsertResultDTO;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ConflictException;
+import edu.employeemanagement.exception.PreconditionFailedException;
 import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
 import edu.employeemanagement.exception.DuplicateEmailException;
 
 import java.util.List;
+import java.util.Set;
 
 public interface IEmployeeService {
 
@@ -21,6 +32,20 @@ public interface IEmployeeService {
      */
     EmployeeResponseDTO createEmployee(EmployeeRequestDTO employeeRequestDTO);
 
+    /**
+     * Crea varios empleados en una sola transacción usando inserciones JDBC por lotes
+     * <p>Los emails se verifican contra la BD en una única consulta. Los elementos inválidos
+     * o con email duplicado se rechazan individualmente sin afectar al resto del lote.
+     * Si la restricción única rechaza la inserción, el lote se repite verificando todos sus emails en la BD.</p>
+     *
+     * @param employeeRequestDTOs datos de los empleados a crear
+     * @return resultado por elemento, en el mismo orden de la petición
+     * @throws BadRequestException si el lote está vacío o supera el tamaño máximo
+     * @throws ConflictException si otro proceso registra uno de los emails durante la inserción, o si el lote
+     *                           participa de una transacción externa (que debe reintentarse completa)
+     */
+    List<BatchItemResultDTO> createEmployeesBatch(List<EmployeeRequestDTO> employeeRequestDTOs);
+
     /**
      * Obtiene la lista de todos los empleados creados
      *
@@ -28,6 +53,43 @@ public interface IEmployeeService {
      */
     List<EmployeeResponseDTO> findAllEmployees();
 
+    /**
+     * Obtiene una página de empleados usando paginación por cursor (keyset)
+     * <p>El costo de cada página es constante sin importar el tamaño de la tabla.</p>
+     *
+     * @param cursor cursor opaco devuelto por la página anterior (null para la primera página)
+     * @param size   tamaño de página solicitado (null para usar el valor por defecto)
+     * @return página de empleados con el cursor de la siguiente página
+     * @throws BadRequestException si el cursor no es válido
+     */
+    CursorPageDTO<EmployeeResponseDTO> findEmployeesPage(String cursor, Integer size);
+
+    /**
+     * Busca empleados cuyo nombre o apellido contenga el término (sin distinguir mayúsculas)
+     * <p>Los resultados se ordenan por relevancia y se paginan por cursor. Se resuelven con el
+     * índice de trigramas en memoria; mientras este se construye se puede usar la consulta en BD.
+     * Un término de menos de tres caracteres solo se busca como prefijo del nombre o el apellido.</p>
+     *
+     * @param term   término de búsqueda
+     * @param cursor cursor opaco devuelto por la página anterior (null para la primera página)
+     * @param size   tamaño de página solicitado (null para usar el valor por defecto)
+     * @return página de empleados con el cursor de la siguiente página
+     * @throws BadRequestException si el término está vacío o el cursor no es válido
+     * @throws ServiceUnavailableException si el índice se está construyendo y el respaldo en BD está deshabilitado
+     */
+    CursorPageDTO<EmployeeResponseDTO> searchEmployees(String term, String cursor, Integer size);
+
+    /**
+     * Obtiene sugerencias de empleados cuyo nombre, apellido o email comienza con el prefijo
+     * <p>Se resuelve completamente en memoria, sin consultar la BD.</p>
+     *
+     * @param prefix prefijo escrito por el usuario
+     * @param limit  cantidad máxima de sugerencias (null para usar el valor por defecto)
+     * @return sugerencias en orden alfabético
+     * @throws BadRequestException si el prefijo está vacío
+     */
+    List<EmployeeSuggestionDTO> autocompleteEmployees(String prefix, Integer limit);
+
     /**
      * Obtiene un empleado por su ID
      *
@@ -37,6 +99,34 @@ public interface IEmployeeService {
      */
     EmployeeResponseDTO findEmployeeById(Long id);
 
+    /**
+     * Obtiene varios empleados por ID y/o email en una sola operación
+     * <p>Primero se consulta la caché; los faltantes se resuelven con consultas {@code IN (...)} por bloques.</p>
+     *
+     * @param lookupRequestDTO IDs y emails a buscar
+     * @return un resultado por elemento solicitado (IDs y luego emails, en el orden de la petición),
+     * marcando los no encontrados
+     * @throws BadRequestException si no hay elementos o se supera el máximo permitido
+     */
+    List<LookupItemResultDTO> lookupEmployees(EmployeeLookupRequestDTO lookupRequestDTO);
+
+    /**
+     * Obtiene el ETag actual de un empleado sin construir la respuesta completa
+     * <p>Usa la caché si el empleado está en ella; si no, consulta solo su fecha de modificación.</p>
+     *
+     * @param id identificador único del empleado
+     * @return ETag del empleado
+     * @throws ResourceNotFoundException si no se encuentra el empleado
+     */
+    String findEmployeeETag(Long id);
+
+    /**
+     * Obtiene el ETag actual del listado completo de empleados sin cargarlos
+     *
+     * @return ETag del listado
+     */
+    String findEmployeesETag();
+
     /**
      * Obtiene un empleado por su email
      *
@@ -45,16 +135,38 @@ public interface IEmployeeService {
      */
     EmployeeResponseDTO findEmployeeByEmail(String email);
 
+    /**
+     * Crea o actualiza un empleado identificado por su email, en una sola sentencia atómica
+     *
+     * @param email              email del empleado (el del cuerpo debe coincidir)
+     * @param employeeRequestDTO datos del empleado
+     * @return empleado resultante e indicador de si fue creado
+     * @throws BadRequestException si el email del cuerpo no coincide con {@code email}
+     */
+    UpsertResultDTO upsertEmployeeByEmail(String email, EmployeeRequestDTO employeeRequestDTO);
+
+    /**
+     * Crea o actualiza por email varios empleados, una sentencia atómica por elemento
+     * <p>Los elementos inválidos o con email repetido dentro del lote se rechazan sin afectar al resto.</p>
+     *
+     * @param employeeRequestDTOs datos de los empleados
+     * @return resultado por elemento, en el mismo orden de la petición
+     * @throws BadRequestException si el lote está vacío o supera el tamaño máximo
+     */
+    List<BatchItemResultDTO> upsertEmployeesBatch(List<EmployeeRequestDTO> employeeRequestDTOs);
+
     /**
      * Actualiza los datos de un empleado existente
      *
      * @param id                 identificador único del empleado
      * @param employeeRequestDTO datos actualizados del empelado
+     * @param expectedVersions   versiones aceptadas según If-Match, o null para actualizar sin condición
      * @return EmployeeResponseDTO con los datos del empleado actualizado
      * @throws ResourceNotFoundException si no se encuentra el empleado
+     * @throws PreconditionFailedException si la versión del empleado no es ninguna de {@code expectedVersions}
      * @throws DuplicateEmailException si el nuevo email ya está en uso
      */
-    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO employeeRequestDTO);
+    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO employeeRequestDTO, Set<Long> expectedVersions);
 
 
     /**
@@ -0,0 +1,18 @@
+package edu.employeemanagement.service.interfaces;
+
+import edu.employeemanagement.domain.dto.response.EmployeeStatsDTO;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+
+public interface IEmployeeStatsService {
+
+    /**
+     * Obtiene el total de empleados, las altas por día y por mes y la distribución por dominio de email.
+     * <p>Se responde desde contadores en memoria, sin consultar la BD.</p>
+     *
+     * @param days   cantidad de días (hasta hoy) de altas por día (opcional)
+     * @param months cantidad de meses (hasta el actual) de altas por mes (opcional)
+     * @return estadísticas de empleados
+     * @throws ServiceUnavailableException si los contadores aún no se inicializaron
+     */
+    EmployeeStatsDTO getStats(Integer days, Integer months);
+}
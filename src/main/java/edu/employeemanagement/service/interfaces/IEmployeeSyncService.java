@@ -0,0 +1,30 @@
+package edu.employeemanagement.service.interfaces;
+
+import edu.employeemanagement.domain.dto.response.EmployeeChangesDTO;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ConflictException;
+
+public interface IEmployeeSyncService {
+
+    /**
+     * Obtiene los empleados creados, modificados y eliminados desde una marca de agua.
+     * <p>Los cambios se leen por el índice de {@code change_xid} (transacción que escribió la fila)
+     * de los empleados y de las marcas de eliminación, por lo que el costo depende de la cantidad de
+     * cambios y no del tamaño de la tabla.</p>
+     *
+     * @param since marca de agua devuelta en la sincronización anterior, o una fecha ISO-8601;
+     *              null para la sincronización inicial (sin eliminaciones)
+     * @param size  cantidad máxima de cambios (opcional)
+     * @return cambios ordenados y la siguiente marca de agua
+     * @throws BadRequestException si la marca de agua no es válida
+     * @throws ConflictException si la marca de agua es más antigua que la retención de eliminaciones
+     */
+    EmployeeChangesDTO findChangesSince(String since, Integer size);
+
+    /**
+     * Elimina las marcas de eliminación más antiguas que el periodo de retención.
+     *
+     * @return cantidad de marcas eliminadas
+     */
+    int compactTombstones();
+}
@@ -0,0 +1,241 @@
+package edu.employeemanagement.stats;
+
+import edu.employeemanagement.datasource.ReplicaRoutingDataSource;
+import edu.employeemanagement.domain.projection.EmployeeStatsRowProjection;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores en memoria de empleados: total, altas por día ({@code createdAt}) y cantidad por
+ * dominio de email.
+ *
+ * <p>Se inicializan al arrancar con una sola consulta agregada y se mantienen al día con los eventos
+ * {@link EmployeeChangedEvent} (con {@link LongAdder} para no contender entre escrituras). Una
+ * reconciliación periódica vuelve a calcularlos en la BD y reemplaza los contadores, corrigiendo
+ * cualquier desvío.</p>
+ *
+ * <p>Durante la reconciliación los eventos se aplican también a un acumulador que se suma al
+ * resultado de la consulta antes del reemplazo; solo un cambio confirmado justo entre el inicio de
+ * la reconciliación y el inicio de la consulta puede contarse dos veces, hasta la siguiente.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeStatistics {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Counter driftCounter;
+
+    private volatile Counters counters = new Counters();
+    private volatile LocalDateTime reconciledAt;
+    // Solo se lee y escribe con swapLock tomado
+    private Counters pending;
+
+    public EmployeeStatistics(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("employees.stats.headcount", this, EmployeeStatistics::headcount)
+                .description("Cantidad de empleados según los contadores en memoria")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("employees.stats.drift")
+                .description("Diferencia absoluta del total corregida por la reconciliación")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return true cuando los contadores se inicializaron desde la BD
+     */
+    public boolean isReady() {
+        return reconciledAt != null;
+    }
+
+    /**
+     * @return fecha de la última reconciliación con la BD, o null si aún no se inicializaron
+     */
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    /**
+     * @return cantidad total de empleados
+     */
+    public long headcount() {
+        return counters.headcount.sum();
+    }
+
+    /**
+     * @return altas por día (solo días con al menos un empleado)
+     */
+    public Map<LocalDate, Long> hiresByDay() {
+        return snapshot(counters.hiresByDay);
+    }
+
+    /**
+     * @return cantidad de empleados por dominio de email (solo dominios con al menos un empleado)
+     */
+    public Map<String, Long> countByDomain() {
+        return snapshot(counters.byDomain);
+    }
+
+    /**
+     * Inicializa los contadores al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Recalcula los contadores con una consulta agregada y reemplaza los actuales.
+     */
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 */15 * * * *}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        swapLock.writeLock().lock();
+        try {
+            pending = new Counters();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        try {
+            // Desde el principal: en una réplica atrasada faltarían cambios cuyos eventos ya se aplicaron a 'pending'
+            List<EmployeeStatsRowProjection> rows = ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(
+                    status -> employeeRepository.countByHireDateAndDomain()));
+            Counters fresh = new Counters();
+            rows.forEach(row -> fresh.addEmployees(row.hireDate(), row.domain(), row.total()));
+
+            long drift;
+            swapLock.writeLock().lock();
+            try {
+                fresh.merge(pending);
+                drift = Math.abs(counters.headcount.sum() - fresh.headcount.sum());
+                counters = fresh;
+                pending = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            if (isReady() && drift > 0) {
+                driftCounter.increment(drift);
+                log.warn("Estadísticas de empleados corregidas: el total difería en {}", drift);
+            }
+            reconciledAt = LocalDateTime.now();
+            log.info("Estadísticas de empleados reconciliadas: {} empleados en {} ms",
+                    fresh.headcount.sum(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            swapLock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            log.error("No fue posible reconciliar las estadísticas de empleados", ex);
+        }
+    }
+
+    /**
+     * Aplica a los contadores los cambios confirmados en la BD.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            apply(counters, event);
+            if (pending != null) {
+                apply(pending, event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Extrae el dominio de un email, en minúsculas (igual que la consulta agregada).
+     *
+     * @param email email del empleado
+     * @return dominio del email
+     */
+    static String domainOf(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static void apply(Counters target, EmployeeChangedEvent event) {
+        EmployeeChangedEvent.Previous previous = event.previous();
+        switch (event.type()) {
+            case CREATED -> target.addEmployees(event.current().createdAt().toLocalDate(),
+                    domainOf(event.current().email()), 1);
+            // La fecha de alta no cambia; solo puede cambiar el dominio del email
+            case UPDATED -> target.moveDomain(domainOf(previous.email()), domainOf(event.current().email()));
+            case DELETED -> target.addEmployees(previous.createdAt().toLocalDate(), domainOf(previous.email()), -1);
+        }
+    }
+
+    private static <K> Map<K, Long> snapshot(ConcurrentMap<K, LongAdder> source) {
+        Map<K, Long> copy = new HashMap<>();
+        source.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value > 0) {
+                copy.put(key, value);
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Juego de contadores que se reemplaza completo en cada reconciliación.
+     */
+    private static final class Counters {
+
+        private final LongAdder headcount = new LongAdder();
+        private final ConcurrentMap<LocalDate, LongAdder> hiresByDay = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> byDomain = new ConcurrentHashMap<>();
+
+        /**
+         * Suma {@code delta} empleados (negativo para bajas) al total, al día de alta y al dominio.
+         */
+        private void addEmployees(LocalDate hireDay, String domain, long delta) {
+            headcount.add(delta);
+            hiresByDay.computeIfAbsent(hireDay, key -> new LongAdder()).add(delta);
+            byDomain.computeIfAbsent(domain, key -> new LongAdder()).add(delta);
+        }
+
+        private void moveDomain(String from, String to) {
+            if (!from.equals(to)) {
+                byDomain.computeIfAbsent(from, key -> new LongAdder()).decrement();
+                byDomain.computeIfAbsent(to, key -> new LongAdder()).increment();
+            }
+        }
+
+        private void merge(Counters other) {
+            headcount.add(other.headcount.sum());
+            other.hiresByDay.forEach((day, adder) -> hiresByDay.computeIfAbsent(day, key -> new LongAdder()).add(adder.sum()));
+            other.byDomain.forEach((domain, adder) -> byDomain.computeIfAbsent(domain, key -> new LongAdder()).add(adder.sum()));
+        }
+    }
+}
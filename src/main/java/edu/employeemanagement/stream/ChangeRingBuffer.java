@@ -0,0 +1,117 @@
+package edu.employeemanagement.stream;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular acotado y sin bloqueos, con números de secuencia crecientes.
+ *
+ * <p>Varios productores pueden publicar a la vez: cada uno reserva su secuencia con
+ * {@link AtomicLong#getAndIncrement()} y escribe su ranura con una escritura atómica, por lo que
+ * los escritores nunca esperan a los lectores. Los lectores avanzan con su propio cursor; si un
+ * lector queda más de {@code capacity} eventos atrás, sus ranuras ya fueron sobrescritas y
+ * {@link #drainTo(long, int, List)} lo informa con {@link #LAPPED}.</p>
+ *
+ * @param <T> tipo de los eventos
+ */
+public final class ChangeRingBuffer<T> {
+
+    /**
+     * Valor devuelto por {@link #drainTo(long, int, List)} cuando la secuencia pedida ya fue sobrescrita.
+     */
+    public static final long LAPPED = -1L;
+
+    /**
+     * Evento almacenado junto con su secuencia.
+     *
+     * @param sequence número de secuencia (empieza en 1)
+     * @param value    evento
+     */
+    public record Entry<T>(long sequence, T value) {
+    }
+
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong(1);
+
+    /**
+     * @param capacity cantidad mínima de eventos a conservar; se redondea a la siguiente potencia de 2
+     */
+    public ChangeRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor que 0");
+        }
+        int size = Integer.highestOneBit(capacity);
+        size = size == capacity ? size : size << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publica un evento, sobrescribiendo el más antiguo si el buffer está lleno.
+     *
+     * @param value evento
+     * @return secuencia asignada
+     */
+    public long publish(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set(index(sequence), new Entry<>(sequence, value));
+        return sequence;
+    }
+
+    /**
+     * @return secuencia que recibirá el próximo evento publicado
+     */
+    public long nextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * @return secuencia más antigua que todavía puede leerse
+     */
+    public long oldestSequence() {
+        return Math.max(1, nextSequence.get() - slots.length());
+    }
+
+    /**
+     * @return cantidad de eventos que el buffer conserva
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Copia en {@code sink} los eventos publicados a partir de {@code from}, en orden y sin huecos.
+     * Se detiene en la primera secuencia reservada que aún no se escribió.
+     *
+     * @param from     primera secuencia a leer
+     * @param maxCount cantidad máxima de eventos a copiar
+     * @param sink     lista destino
+     * @return siguiente secuencia a leer, o {@link #LAPPED} si {@code from} ya fue sobrescrita
+     */
+    public long drainTo(long from, int maxCount, List<Entry<T>> sink) {
+        long sequence = from;
+        int copied = 0;
+        while (copied < maxCount) {
+            Entry<T> entry = slots.get(index(sequence));
+            if (entry == null || entry.sequence() < sequence) {
+                break;
+            }
+            if (entry.sequence() > sequence) {
+                return LAPPED;
+            }
+            sink.add(entry);
+            sequence++;
+            copied++;
+        }
+        if (copied == 0 && sequence < oldestSequence()) {
+            return LAPPED;
+        }
+        return sequence;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
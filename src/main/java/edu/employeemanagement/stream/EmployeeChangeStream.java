@@ -0,0 +1,266 @@
+package edu.employeemanagement.stream;
+
+import edu.employeemanagement.config.ChangeStreamProperties;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static edu.employeemanagement.util.Constants.STREAM_RESET;
+
+/**
+ * Flujo de cambios de empleados por Server-Sent Events (GET /employees/stream).
+ *
+ * <p>Cada {@link EmployeeChangedEvent} confirmado se serializa una sola vez y se publica en un
+ * {@link ChangeRingBuffer}. Los suscriptores no tienen un hilo propio: solo cuando tienen eventos
+ * pendientes se lanza una tarea en un hilo virtual que los escribe y termina. Un suscriptor tan lento
+ * que el buffer lo alcanza se desconecta en lugar de frenar a los escritores; al reconectarse con
+ * {@code Last-Event-ID} reanuda desde su último evento o recibe un evento {@code reset} si ya no está
+ * en el buffer.</p>
+ *
+ * <p>Los IDs de evento tienen la forma {@code <instancia>-<secuencia>}, de modo que un ID emitido
+ * antes de un reinicio también provoca {@code reset}.</p>
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStream {
+
+    static final String RESET_EVENT = "reset";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    /**
+     * Evento ya serializado, compartido por todos los suscriptores.
+     *
+     * @param name nombre del evento SSE (created, updated, deleted)
+     * @param json cuerpo JSON
+     */
+    record StreamEvent(String name, String json) {
+    }
+
+    private final ChangeStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ChangeRingBuffer<StreamEvent> ringBuffer;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter laggingDrops;
+    private final Counter failedDrops;
+
+    public EmployeeChangeStream(ChangeStreamProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.ringBuffer = new ChangeRingBuffer<>(properties.bufferCapacity());
+        Gauge.builder("employees.stream.subscribers", subscribers, Set::size)
+                .description("Suscriptores conectados a GET /employees/stream")
+                .register(meterRegistry);
+        Gauge.builder("employees.stream.sequence", ringBuffer, buffer -> buffer.nextSequence() - 1)
+                .description("Último número de secuencia publicado")
+                .register(meterRegistry);
+        this.laggingDrops = dropCounter(meterRegistry, "lagging");
+        this.failedDrops = dropCounter(meterRegistry, "error");
+    }
+
+    /**
+     * Registra un nuevo suscriptor.
+     *
+     * @param lastEventId último ID de evento recibido por el cliente (cabecera Last-Event-ID), o null
+     * @return emisor SSE de la conexión
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        long resumeFrom = resolveResumeSequence(lastEventId);
+        Subscriber subscriber = new Subscriber(emitter, resumeFrom < 0 ? ringBuffer.nextSequence() : resumeFrom);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        if (resumeFrom < 0) {
+            // Los eventos perdidos ya no están en el buffer: el cliente debe recargar el listado
+            sendReset(subscriber);
+        }
+        subscribers.add(subscriber);
+        log.debug("Nuevo suscriptor del flujo de empleados desde la secuencia {} ({} conectados)",
+                subscriber.cursor, subscribers.size());
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Publica en el flujo los cambios confirmados en la BD.
+     *
+     * @param event cambio sobre un empleado
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+        ringBuffer.publish(new StreamEvent(name, objectMapper.writeValueAsString(event)));
+        subscribers.forEach(this::schedule);
+    }
+
+    /**
+     * Envía un comentario periódico para mantener abiertas las conexiones inactivas y detectar las cerradas.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> {
+            if (subscriber.draining.compareAndSet(false, true)) {
+                writers.execute(() -> {
+                    try {
+                        subscriber.emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                    } catch (IOException | IllegalStateException ex) {
+                        drop(subscriber, failedDrops, ex);
+                    } finally {
+                        subscriber.draining.set(false);
+                    }
+                    schedule(subscriber);
+                });
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        writers.shutdownNow();
+    }
+
+    /**
+     * Lanza la escritura de un suscriptor si tiene eventos pendientes y no hay otra en curso.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.cursor < ringBuffer.nextSequence()
+                && subscribers.contains(subscriber)
+                && subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            List<ChangeRingBuffer.Entry<StreamEvent>> batch = new ArrayList<>(properties.maxBatchSize());
+            while (true) {
+                batch.clear();
+                long next = ringBuffer.drainTo(subscriber.cursor, properties.maxBatchSize(), batch);
+                if (next == ChangeRingBuffer.LAPPED) {
+                    log.warn("Suscriptor del flujo de empleados desconectado: quedó más de {} eventos atrás",
+                            ringBuffer.capacity());
+                    drop(subscriber, laggingDrops, null);
+                    return;
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (ChangeRingBuffer.Entry<StreamEvent> entry : batch) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(eventId(entry.sequence()))
+                            .name(entry.value().name())
+                            .data(entry.value().json(), MediaType.APPLICATION_JSON));
+                }
+                subscriber.cursor = next;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            drop(subscriber, failedDrops, ex);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // Un evento publicado mientras se liberaba el indicador no debe quedar sin enviar
+        schedule(subscriber);
+    }
+
+    private void sendReset(Subscriber subscriber) {
+        try {
+            // El ID permite que la siguiente reconexión reanude desde aquí
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(eventId(subscriber.cursor - 1))
+                    .name(RESET_EVENT)
+                    .data(STREAM_RESET));
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("No se pudo enviar el evento reset: {}", ex.getMessage());
+            subscriber.emitter.completeWithError(ex);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Counter counter, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            counter.increment();
+            if (cause != null) {
+                log.debug("Suscriptor del flujo de empleados desconectado: {}", cause.getMessage());
+                subscriber.emitter.completeWithError(cause);
+            } else {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * @return secuencia desde la que se reanuda, o -1 si el ID no se puede reanudar
+     */
+    long resolveResumeSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return ringBuffer.nextSequence();
+        }
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            long resumeFrom = Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+            return resumeFrom >= ringBuffer.oldestSequence() && resumeFrom <= ringBuffer.nextSequence()
+                    ? resumeFrom
+                    : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.timeout().toMillis());
+    }
+
+    String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private static Counter dropCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("employees.stream.dropped")
+                .description("Suscriptores desconectados por el servidor")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Conexión abierta y su posición en el buffer.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Solo lo modifica la tarea que tiene draining=true
+        private volatile long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
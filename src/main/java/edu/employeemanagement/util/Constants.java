@@ -9,7 +9,9 @@ public final class Constants {
     public static final String BAD_REQUEST = "BAD_REQUEST";
     public static final String RESOURCE_NOT_FOUND = "RESOURCE_NOT_FOUND";
     public static final String CONFLICT = "CONFLICT";
+    public static final String PRECONDITION_FAILED = "PRECONDITION_FAILED";
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
+    public static final String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
     public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
 
     // ========== MENSAJES DE ERROR (GlobalExceptionHandler) ==========
@@ -30,6 +32,32 @@ public final class Constants {
     public static final String EMPLOYEE_NOT_FOUND_EMAIL = "Empleado no encontrado con email: %s";
     public static final String EMAIL_ALREADY_EXISTS = "El email '%s' ya está registrado en el sistema.";
     public static final String INVALID_EMAIL_FORMAT = "El formato del email '%s' no es válido.";
+    public static final String EMPTY_BATCH = "El lote de empleados no puede estar vacío.";
+    public static final String BATCH_TOO_LARGE = "El lote no puede superar los %d empleados.";
+    public static final String EMPTY_LOOKUP = "Debe indicar al menos un ID o email a buscar.";
+    public static final String LOOKUP_TOO_LARGE = "La búsqueda múltiple no puede superar los %d IDs y emails.";
+    public static final String STREAM_RESET = "Se perdieron eventos del flujo. Recargue el listado de empleados.";
+    public static final String EMPLOYEE_VERSION_MISMATCH = "El empleado con ID %d fue modificado por otra petición. Obtenga la versión actual e intente de nuevo.";
+    public static final String EMAIL_PATH_MISMATCH = "El email del cuerpo debe coincidir con el de la URL: %s";
+    public static final String BATCH_CONFLICT = "Otro proceso registró alguno de los emails del lote. Intente de nuevo.";
+    public static final String INVALID_EXPORT_FORMAT = "El formato de exportación '%s' no es válido. Use ndjson o csv.";
+    public static final String SEARCH_TERM_REQUIRED = "El término de búsqueda es obligatorio.";
+    public static final String PREFIX_REQUIRED = "El prefijo de autocompletado es obligatorio.";
+    public static final String INVALID_CURSOR = "El cursor de paginación '%s' no es válido.";
+    public static final String RETRY_AFTER_SECONDS = "1";
+    public static final String SEARCH_INDEX_NOT_READY = "El índice de búsqueda se está construyendo. Intente de nuevo en unos segundos.";
+    public static final String STATS_NOT_READY = "Las estadísticas de empleados se están calculando. Intente de nuevo en unos segundos.";
+    public static final String SERVICE_OVERLOADED = "El servicio está saturado. Intente de nuevo en unos segundos.";
+    public static final String IMPORT_FILE_REQUIRED = "Debe adjuntar un archivo CSV en el campo 'file'.";
+    public static final String IMPORT_MISSING_COLUMNS = "El encabezado del CSV debe incluir las columnas name, lastname y email.";
+    public static final String IMPORT_FILE_ERROR = "No fue posible guardar el archivo de importación.";
+    public static final String IMPORT_QUEUE_FULL = "Hay demasiadas importaciones pendientes. Intente de nuevo en unos minutos.";
+    public static final String IMPORT_JOB_NOT_FOUND = "Trabajo de importación no encontrado con ID: %s";
+    public static final String IMPORT_REPORT_NOT_READY = "El reporte de fallos estará disponible cuando finalice el trabajo %s.";
+    public static final String IMPORT_INTERRUPTED = "La importación se interrumpió: %s";
+    public static final String IMPORT_SOURCE_LOST = "No se encontró el archivo recibido para retomar la importación; el directorio de importación debe ser compartido por todas las instancias.";
+    public static final String IMPORT_REPORT_UNAVAILABLE = "El reporte de fallos del trabajo %s no está disponible en esta instancia.";
+    public static final String CHANGES_WATERMARK_EXPIRED = "La marca de agua '%s' es anterior a la retención de eliminaciones. Realice una sincronización completa.";
 
     // ========== MENSAJES DE ÉXITO ==========
     public static final String EMPLOYEE_CREATED = "Empleado creado exitosamente.";
@@ -37,6 +65,35 @@ public final class Constants {
     public static final String EMPLOYEE_DELETED = "Empleado eliminado exitosamente.";
     public static final String EMPLOYEE_FOUND = "Empleado encontrado.";
     public static final String EMPLOYEES_RETRIEVED = "Empleados recuperados exitosamente.";
+    public static final String EMPLOYEES_BATCH_PROCESSED = "Lote procesado: %d creados, %d rechazados.";
+    public static final String EMPLOYEES_LOOKUP = "Búsqueda múltiple: %d encontrados, %d no encontrados.";
+    public static final String EMPLOYEES_CHANGES = "Cambios recuperados: %d creados o modificados, %d eliminados.";
+    public static final String EMPLOYEES_STATS = "Estadísticas de empleados recuperadas.";
+    public static final String IMPORT_JOB_ACCEPTED = "Importación recibida. Consulte su avance con el ID %s.";
+    public static final String IMPORT_JOB_RETRIEVED = "Estado de la importación recuperado.";
+    public static final String EMPLOYEES_BATCH_UPSERTED = "Lote procesado: %d creados, %d actualizados, %d rechazados.";
+
+    // ========== FORMATOS Y LÍMITES ==========
+    public static final String DATE_TIME_PATTERN = "dd/MM/yyyy HH:mm:ss";
+
+    /** Cantidad de filas que el driver JDBC trae por viaje durante la exportación. */
+    public static final int EXPORT_FETCH_SIZE = 500;
+
+    /** Cantidad máxima de empleados aceptados en una creación por lotes. */
+    public static final int BATCH_MAX_SIZE = 1000;
+
+    /** Cantidad máxima de IDs + emails aceptados en una búsqueda múltiple. */
+    public static final int LOOKUP_MAX_SIZE = 1000;
+
+    /** Cantidad de valores por consulta {@code IN (...)} al resolver una búsqueda múltiple. */
+    public static final int LOOKUP_CHUNK_SIZE = 500;
+
+    /** Intentos por porción de una importación ante un conflicto de emails (los rechazos por saturación se reintentan sin límite). */
+    public static final int IMPORT_CHUNK_MAX_ATTEMPTS = 3;
+
+    /** Cantidad de sugerencias por defecto y máxima del autocompletado. */
+    public static final int AUTOCOMPLETE_DEFAULT_LIMIT = 10;
+    public static final int AUTOCOMPLETE_MAX_LIMIT = 50;
 
 
     private Constants() {
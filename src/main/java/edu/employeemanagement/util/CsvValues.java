@@ -0,0 +1,27 @@
+package edu.employeemanagement.util;
+
+/**
+ * Escribe valores de texto en CSV (RFC 4180), compartido por la exportación y los reportes de importación.
+ */
+public final class CsvValues {
+
+    private CsvValues() {
+        throw new UnsupportedOperationException("Clase de utilidad no instanciable");
+    }
+
+    /**
+     * Encierra el valor entre comillas si contiene comas, comillas o saltos de línea.
+     *
+     * @param value valor a escribir (puede ser null)
+     * @return valor listo para una celda CSV; cadena vacía si es null
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
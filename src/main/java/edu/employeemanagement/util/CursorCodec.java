@@ -0,0 +1,184 @@
+package edu.employeemanagement.util;
+
+import edu.employeemanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import static edu.employeemanagement.util.Constants.INVALID_CURSOR;
+
+/**
+ * Codifica y decodifica los cursores opacos usados en la paginación.
+ * <p>El cursor contiene el último ID devuelto (paginación keyset) o la posición
+ * en los resultados (búsqueda rankeada) en Base64 URL-safe, de modo que
+ * el cliente no dependa de su formato interno. La marca de agua de la sincronización
+ * incremental contiene la transacción del último cambio, su ID y la fecha de entrega.</p>
+ */
+public final class CursorCodec {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "off:";
+    private static final String WATERMARK_PREFIX = "wx:";
+    // Formato anterior, con la fecha del último cambio en lugar de la transacción
+    private static final String LEGACY_WATERMARK_PREFIX = "wm:";
+    private static final String WATERMARK_SEPARATOR = ":";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Posición de la sincronización incremental: transacción del último cambio visto y su ID como desempate.
+     *
+     * @param changeXid  transacción del cambio, o {@link #FROM_DATE} si la posición es una fecha aún no resuelta
+     * @param idEmployee ID del empleado
+     * @param issuedAt   fecha en que se entregó la marca (o fecha pedida, con {@link #FROM_DATE});
+     *                   define si las eliminaciones posteriores siguen retenidas
+     */
+    public record Watermark(long changeXid, long idEmployee, LocalDateTime issuedAt) {
+
+        /** Transacción de una posición expresada como fecha; se resuelve con la primera transacción desde esa fecha. */
+        public static final long FROM_DATE = -1L;
+
+        /**
+         * @param since fecha desde la que se piden los cambios
+         * @return posición equivalente a "todos los cambios desde esa fecha"
+         */
+        public static Watermark fromDate(LocalDateTime since) {
+            return new Watermark(FROM_DATE, 0L, since);
+        }
+
+        /**
+         * @return true si la posición es una fecha que debe resolverse a una transacción
+         */
+        public boolean isFromDate() {
+            return changeXid == FROM_DATE;
+        }
+    }
+
+    private CursorCodec() {
+        throw new UnsupportedOperationException("Clase de utilidad no instanciable");
+    }
+
+    /**
+     * Genera el cursor opaco a partir del último ID de la página.
+     *
+     * @param lastId último ID devuelto
+     * @return cursor codificado
+     */
+    public static String encode(Long lastId) {
+        return encode(ID_PREFIX, lastId);
+    }
+
+    /**
+     * Obtiene el último ID contenido en un cursor.
+     *
+     * @param cursor cursor recibido del cliente (puede ser null o vacío para la primera página)
+     * @return último ID visto, o 0 si es la primera página
+     * @throws BadRequestException si el cursor no es válido
+     */
+    public static long decode(String cursor) {
+        return decode(ID_PREFIX, cursor);
+    }
+
+    /**
+     * Genera el cursor opaco a partir de la posición del siguiente resultado.
+     *
+     * @param offset posición del primer resultado de la siguiente página
+     * @return cursor codificado
+     */
+    public static String encodeOffset(int offset) {
+        return encode(OFFSET_PREFIX, offset);
+    }
+
+    /**
+     * Obtiene la posición contenida en un cursor de resultados rankeados.
+     *
+     * @param cursor cursor recibido del cliente (puede ser null o vacío para la primera página)
+     * @return posición del primer resultado, o 0 si es la primera página
+     * @throws BadRequestException si el cursor no es válido
+     */
+    public static int decodeOffset(String cursor) {
+        long offset = decode(OFFSET_PREFIX, cursor);
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new BadRequestException(String.format(INVALID_CURSOR, cursor));
+        }
+        return (int) offset;
+    }
+
+    /**
+     * Genera la marca de agua opaca de la sincronización incremental.
+     *
+     * @param watermark posición del último cambio entregado
+     * @return marca de agua codificada
+     */
+    public static String encodeWatermark(Watermark watermark) {
+        String value = WATERMARK_PREFIX + watermark.changeXid()
+                + WATERMARK_SEPARATOR + watermark.idEmployee()
+                + WATERMARK_SEPARATOR + ChronoUnit.MICROS.between(EPOCH, watermark.issuedAt());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Obtiene la posición contenida en una marca de agua. También acepta una fecha ISO-8601
+     * ({@code 2025-01-31T10:15:30}) o una marca del formato anterior, basado en fechas: ambas se
+     * devuelven como {@link Watermark#fromDate(LocalDateTime)}.
+     *
+     * @param since marca de agua o fecha recibida del cliente
+     * @return posición, o null si {@code since} es null o vacío
+     * @throws BadRequestException si no es una marca de agua ni una fecha válida
+     */
+    public static Watermark decodeWatermark(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            return Watermark.fromDate(LocalDateTime.parse(since));
+        } catch (DateTimeParseException ignored) {
+            // No es una fecha: se interpreta como marca de agua opaca
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8);
+            if (decoded.startsWith(LEGACY_WATERMARK_PREFIX)) {
+                String[] parts = decoded.substring(LEGACY_WATERMARK_PREFIX.length()).split(WATERMARK_SEPARATOR);
+                if (parts.length != 3) {
+                    throw new BadRequestException(String.format(INVALID_CURSOR, since));
+                }
+                return Watermark.fromDate(EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS));
+            }
+            String[] parts = decoded.startsWith(WATERMARK_PREFIX)
+                    ? decoded.substring(WATERMARK_PREFIX.length()).split(WATERMARK_SEPARATOR)
+                    : new String[0];
+            if (parts.length != 3 || Long.parseLong(parts[0]) < 0) {
+                throw new BadRequestException(String.format(INVALID_CURSOR, since));
+            }
+            return new Watermark(Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    EPOCH.plus(Long.parseLong(parts[2]), ChronoUnit.MICROS));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException(String.format(INVALID_CURSOR, since), ex);
+        }
+    }
+
+    private static String encode(String prefix, long value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) {
+                throw new BadRequestException(String.format(INVALID_CURSOR, cursor));
+            }
+            return Long.parseLong(decoded.substring(prefix.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(String.format(INVALID_CURSOR, cursor), ex);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package edu.employeemanagement.util;
+
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import org.springframework.http.ETag;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Genera y lee los validadores fuertes (ETag) de las respuestas de empleados.
+ * <p>El ETag de un empleado depende de su ID y de su versión de bloqueo optimista; el del listado,
+ * de las últimas transacciones que modificaron o eliminaron empleados (asignadas por la BD).</p>
+ */
+public final class ETags {
+
+    private ETags() {
+        throw new UnsupportedOperationException("Clase de utilidad no instanciable");
+    }
+
+    /**
+     * @param idEmployee identificador del empleado
+     * @param version    versión del empleado
+     * @return ETag entre comillas
+     */
+    public static String forEmployee(Long idEmployee, Long version) {
+        return "\"e" + idEmployee + "-" + version + "\"";
+    }
+
+    /**
+     * @param employee empleado devuelto en la respuesta
+     * @return ETag entre comillas
+     */
+    public static String forEmployee(EmployeeResponseDTO employee) {
+        return forEmployee(employee.idEmployee(), employee.version());
+    }
+
+    /**
+     * Obtiene las versiones aceptadas a partir de la cabecera If-Match, que puede traer una lista de
+     * ETags o {@code *}. If-Match usa comparación fuerte, así que los ETags débiles no coinciden nunca.
+     *
+     * @param ifMatch    valor de la cabecera (puede ser null)
+     * @param idEmployee empleado al que se dirige la petición
+     * @return null si no hay condición (cabecera ausente o {@code *}); si no, las versiones de los ETags
+     * que pertenecen al empleado, vacío si ninguno le pertenece
+     */
+    public static Set<Long> parseVersions(String ifMatch, Long idEmployee) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String prefix = "e" + idEmployee + "-";
+        Set<Long> versions = new LinkedHashSet<>();
+        for (ETag eTag : ETag.parse(ifMatch)) {
+            if (eTag.isWildcard()) {
+                return null;
+            }
+            if (eTag.weak() || !eTag.tag().startsWith(prefix) || eTag.tag().length() == prefix.length()) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(eTag.tag().substring(prefix.length())));
+            } catch (NumberFormatException ex) {
+                // Un ETag con formato inválido no corresponde a ninguna versión
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * @param employeesXid  última transacción que creó o modificó un empleado
+     * @param tombstonesXid última transacción que eliminó un empleado
+     * @return ETag entre comillas
+     */
+    public static String forCollection(long employeesXid, long tombstonesXid) {
+        return "\"c" + Long.toHexString(employeesXid) + "-" + Long.toHexString(tombstonesXid) + "\"";
+    }
+}
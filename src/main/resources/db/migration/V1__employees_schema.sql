@@ -0,0 +1,34 @@
+-- Esquema inicial de empleados. Es idempotente para poder aplicarse sobre bases creadas antes con
+-- spring.jpa.hibernate.ddl-auto=update (spring.flyway.baseline-version=0 hace que se ejecute igual).
+
+-- Los IDs salen de la secuencia con bloques de 50 (allocationSize del optimizador pooled de Hibernate)
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id_employee BIGINT       NOT NULL,
+    name        VARCHAR(50)  NOT NULL,
+    lastname    VARCHAR(50)  NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    version     BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_employees PRIMARY KEY (id_employee),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+-- Bases anteriores al bloqueo optimista no tienen la columna de versión
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Paginación de la sincronización incremental (GET /employees/changes) por updated_at, id_employee
+CREATE INDEX IF NOT EXISTS idx_employees_updated_at ON employees (updated_at);
+
+CREATE TABLE IF NOT EXISTS employee_tombstones (
+    id_employee BIGINT       NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_employee_tombstones PRIMARY KEY (id_employee)
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_tombstones_deleted_at ON employee_tombstones (deleted_at);
+
+-- Bases creadas con IDENTITY: la secuencia debe quedar por encima del mayor ID existente
+SELECT setval('employees_seq', MAX(id_employee) + 50) FROM employees HAVING MAX(id_employee) IS NOT NULL;
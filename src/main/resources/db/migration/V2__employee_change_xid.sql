@@ -0,0 +1,28 @@
+-- Secuencia de cambios de la sincronización incremental (GET /employees/changes).
+-- Cada fila guarda el ID de la transacción que la escribió (pg_current_xact_id), asignado por la BD
+-- en un trigger para cubrir también las sentencias nativas. La sincronización solo entrega filas con
+-- change_xid menor al xmin de su snapshot: todas esas transacciones ya terminaron, así que ninguna
+-- confirmación posterior puede quedar por detrás de una marca de agua ya entregada.
+
+-- Filas anteriores a la columna: 0, previas a cualquier cambio registrado
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE employee_tombstones ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION stamp_change_xid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_employees_change_xid ON employees;
+CREATE TRIGGER trg_employees_change_xid BEFORE INSERT OR UPDATE ON employees
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_xid();
+
+DROP TRIGGER IF EXISTS trg_employee_tombstones_change_xid ON employee_tombstones;
+CREATE TRIGGER trg_employee_tombstones_change_xid BEFORE INSERT OR UPDATE ON employee_tombstones
+    FOR EACH ROW EXECUTE FUNCTION stamp_change_xid();
+
+-- Paginación de la sincronización por change_xid, id_employee (reemplaza a updated_at)
+CREATE INDEX IF NOT EXISTS idx_employees_change_xid ON employees (change_xid, id_employee);
+CREATE INDEX IF NOT EXISTS idx_employee_tombstones_change_xid ON employee_tombstones (change_xid, id_employee);
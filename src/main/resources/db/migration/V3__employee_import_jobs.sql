@@ -0,0 +1,28 @@
+-- Estado de los trabajos de importación masiva (POST /employees/import-jobs), compartido por todas las
+-- instancias. Cada porción confirma sus filas y el punto de avance (committed_line, report_bytes) en la
+-- misma transacción, así que un trabajo interrumpido se retoma exactamente después de la última porción.
+-- owner identifica la ejecución que tiene el trabajo y heartbeat_at su última señal de vida: un trabajo
+-- QUEUED o RUNNING sin señal reciente lo retoma otra instancia.
+CREATE TABLE IF NOT EXISTS employee_import_jobs (
+    id             UUID         NOT NULL,
+    status         VARCHAR(16)  NOT NULL,
+    file_name      VARCHAR(255),
+    total_bytes    BIGINT       NOT NULL,
+    bytes_read     BIGINT       NOT NULL DEFAULT 0,
+    committed_line BIGINT       NOT NULL DEFAULT 0,
+    report_bytes   BIGINT       NOT NULL DEFAULT 0,
+    processed_rows BIGINT       NOT NULL DEFAULT 0,
+    created_rows   BIGINT       NOT NULL DEFAULT 0,
+    rejected_rows  BIGINT       NOT NULL DEFAULT 0,
+    submitted_at   TIMESTAMP(6) NOT NULL,
+    started_at     TIMESTAMP(6),
+    finished_at    TIMESTAMP(6),
+    error          VARCHAR(500),
+    owner          UUID         NOT NULL,
+    heartbeat_at   TIMESTAMP(6),
+    CONSTRAINT pk_employee_import_jobs PRIMARY KEY (id)
+);
+
+-- Búsqueda de trabajos abandonados y depuración de los finalizados
+CREATE INDEX IF NOT EXISTS idx_employee_import_jobs_status ON employee_import_jobs (status, heartbeat_at);
+CREATE INDEX IF NOT EXISTS idx_employee_import_jobs_finished_at ON employee_import_jobs (finished_at);
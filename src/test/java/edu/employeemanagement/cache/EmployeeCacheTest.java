@@ -0,0 +1,127 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.config.EmployeeCacheProperties;
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmployeeCache - Unit Tests")
+class EmployeeCacheTest {
+
+    private EmployeeCache employeeCache;
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(new EmployeeCacheProperties(100, Duration.ofMinutes(1), 256), new SimpleMeterRegistry());
+        employee = DataDummy.defaultEmployeeResponseDTO();
+    }
+
+    @Test
+    @DisplayName("Created event - Populates both indexes")
+    void testOnEmployeeChanged_Created() {
+        // When
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).contains(employee);
+        assertThat(employeeCache.getByEmail(DataDummy.DEFAULT_EMAIL)).contains(employee);
+    }
+
+    @Test
+    @DisplayName("Updated event - Drops the previous email key without knowing it")
+    void testOnEmployeeChanged_Updated() {
+        // Given
+        employeeCache.put(employee);
+        EmployeeResponseDTO updated = DataDummy.customEmployeeResponseDTO(DataDummy.DEFAULT_ID, DataDummy.DEFAULT_NAME,
+                DataDummy.DEFAULT_LASTNAME, "nuevo@exampletest.com", DataDummy.DEFAULT_CREATED_AT, DataDummy.SECOND_UPDATED_AT);
+
+        // When
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.updated(updated));
+
+        // Then
+        assertThat(employeeCache.getByEmail(DataDummy.DEFAULT_EMAIL)).isEmpty();
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).contains(updated);
+    }
+
+    @Test
+    @DisplayName("Deleted event - Evicts the employee")
+    void testOnEmployeeChanged_Deleted() {
+        // Given
+        employeeCache.put(employee);
+
+        // When
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.deleted(DataDummy.DEFAULT_ID, employee.email(), employee.createdAt()));
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).isEmpty();
+        assertThat(employeeCache.getByEmail(DataDummy.DEFAULT_EMAIL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Put - A loader that read before a concurrent commit does not overwrite the newer version")
+    void testPut_LoaderRacesWrite() {
+        // Given: el loader leyó la versión 1 y el commit de la versión 2 ya notificó su evento
+        EmployeeResponseDTO loaded = EmployeeResponseDTO.builder()
+                .idEmployee(DataDummy.DEFAULT_ID).email(DataDummy.DEFAULT_EMAIL).version(1L).build();
+        EmployeeResponseDTO committed = EmployeeResponseDTO.builder()
+                .idEmployee(DataDummy.DEFAULT_ID).email("nuevo@exampletest.com").version(2L).build();
+        employeeCache.put(loaded);
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.updated(committed, DataDummy.DEFAULT_EMAIL));
+
+        // When
+        employeeCache.put(loaded);
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).contains(committed);
+        assertThat(employeeCache.getByEmail(DataDummy.DEFAULT_EMAIL)).isEmpty();
+        assertThat(employeeCache.getByEmail("nuevo@exampletest.com")).contains(committed);
+    }
+
+    @Test
+    @DisplayName("Updated events out of order - An older version does not replace the newer one")
+    void testOnEmployeeChanged_OutOfOrder() {
+        // Given: el evento de la versión 3 se aplica antes que el de la versión 2
+        EmployeeResponseDTO v2 = EmployeeResponseDTO.builder()
+                .idEmployee(DataDummy.DEFAULT_ID).email("v2@exampletest.com").version(2L).build();
+        EmployeeResponseDTO v3 = EmployeeResponseDTO.builder()
+                .idEmployee(DataDummy.DEFAULT_ID).email("v3@exampletest.com").version(3L).build();
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.updated(v3, "v2@exampletest.com"));
+
+        // When
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.updated(v2, DataDummy.DEFAULT_EMAIL));
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).contains(v3);
+        assertThat(employeeCache.getByEmail("v3@exampletest.com")).contains(v3);
+        assertThat(employeeCache.getByEmail("v2@exampletest.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Put if not invalidated - A loader that read before a delete does not repopulate the cache")
+    void testPutIfNotInvalidated_LoaderRacesDelete() {
+        // Given: el loader tomó el sello y leyó la fila antes de que se confirmara la eliminación
+        long stamp = employeeCache.invalidationStamp(DataDummy.DEFAULT_ID);
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.deleted(DataDummy.DEFAULT_ID, employee.email(), employee.createdAt()));
+
+        // When
+        employeeCache.putIfNotInvalidated(employee, DataDummy.DEFAULT_ID, stamp);
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).isEmpty();
+
+        // When: una consulta posterior al commit sí se guarda
+        employeeCache.putIfNotInvalidated(employee, DataDummy.DEFAULT_ID, employeeCache.invalidationStamp(DataDummy.DEFAULT_ID));
+
+        // Then
+        assertThat(employeeCache.getById(DataDummy.DEFAULT_ID)).contains(employee);
+    }
+}
@@ -0,0 +1,75 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.config.EmployeeCacheProperties;
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.dto.response.ApiResponseDTO;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.RawValue;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmployeeJsonCache - Unit Tests")
+class EmployeeJsonCacheTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private EmployeeJsonCache employeeJsonCache;
+    private EmployeeResponseDTO employee;
+
+    @BeforeEach
+    void setUp() {
+        employeeJsonCache = new EmployeeJsonCache(new EmployeeCacheProperties(100, Duration.ofMinutes(1), 256),
+                objectMapper, new SimpleMeterRegistry());
+        employee = DataDummy.defaultEmployeeResponseDTO();
+    }
+
+    @Test
+    @DisplayName("To Json - Spliced bytes match regular serialization inside the envelope")
+    void testToJson_SplicedIntoEnvelope() {
+        // When
+        String spliced = objectMapper.writeValueAsString(
+                ApiResponseDTO.success(employeeJsonCache.toJson(List.of(employee)), "ok"));
+
+        // Then
+        assertThat(spliced).contains("\"data\":[" + objectMapper.writeValueAsString(employee) + "]");
+    }
+
+    @Test
+    @DisplayName("To Json - Reuses bytes until the version or update date changes")
+    void testToJson_ReusesUntilChanged() {
+        // Given
+        RawValue first = employeeJsonCache.toJson(employee);
+        EmployeeResponseDTO renamed = DataDummy.customEmployeeResponseDTO(employee.idEmployee(), "Otro",
+                employee.lastname(), employee.email(), employee.createdAt(), employee.updatedAt().plusSeconds(1));
+
+        // When
+        RawValue same = employeeJsonCache.toJson(employee);
+        RawValue changed = employeeJsonCache.toJson(renamed);
+
+        // Then
+        assertThat(same.rawValue()).isSameAs(first.rawValue());
+        assertThat(changed.rawValue().toString()).contains("\"name\":\"Otro\"");
+    }
+
+    @Test
+    @DisplayName("Deleted event - Drops the cached bytes")
+    void testOnEmployeeChanged_Deleted() {
+        // Given
+        RawValue first = employeeJsonCache.toJson(employee);
+
+        // When
+        employeeJsonCache.onEmployeeChanged(EmployeeChangedEvent.deleted(employee.idEmployee(), employee.email(), employee.createdAt()));
+
+        // Then
+        assertThat(employeeJsonCache.toJson(employee).rawValue()).isNotSameAs(first.rawValue());
+    }
+}
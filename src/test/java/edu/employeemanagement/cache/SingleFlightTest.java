@@ -0,0 +1,129 @@
+package edu.employeemanagement.cache;
+
+import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight - Unit Tests")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Concurrent calls - Share one execution and all receive its result")
+    void testExecute_Coalesces() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", true, Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "Ana";
+            }));
+            while (executions.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> {
+                executions.incrementAndGet();
+                return "otro";
+            }));
+            while (coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("Ana");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("Ana");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.execute(1L, () -> "nuevo")).isEqualTo("nuevo");
+    }
+
+    @Test
+    @DisplayName("Failed execution - Every waiter receives the same exception")
+    void testExecute_PropagatesError() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", true, Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                throw new ResourceNotFoundException("no existe");
+            }));
+            started.await();
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "otro"));
+            while (coalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Slow execution - A waiter gives up after the timeout with a 503")
+    void testExecute_Timeout() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", true, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> singleFlight.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                return "Ana";
+            }));
+            started.await();
+
+            // When & Then
+            assertThatThrownBy(() -> singleFlight.execute(1L, () -> "otro"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("employees.singleflight.timeouts").counter().count()).isEqualTo(1);
+            release.countDown();
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("employees.singleflight.calls").tag("outcome", "coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
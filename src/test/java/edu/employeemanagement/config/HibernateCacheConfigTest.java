@@ -0,0 +1,64 @@
+package edu.employeemanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import edu.employeemanagement.domain.entity.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HibernateCacheConfig - Unit Tests")
+class HibernateCacheConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager(new HibernateCacheProperties(
+                100, Duration.ofMinutes(1), 200, Duration.ofMinutes(2), 50, Duration.ofSeconds(30)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("Hibernate Cache Manager - Regions are bounded and publish metrics")
+    void testHibernateCacheManager_BoundedRegions() {
+        // When
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> employees = cacheManager.getCache(Employee.CACHE_REGION)
+                .getConfiguration(CaffeineConfiguration.class);
+
+        // Then
+        assertThat(employees.getMaximumSize()).isEqualTo(OptionalLong.of(100));
+        assertThat(employees.getExpireAfterWrite()).isEqualTo(OptionalLong.of(TimeUnit.MINUTES.toNanos(1)));
+        assertThat(meterRegistry.find("cache.size").tag("cache", "hibernate." + Employee.NATURAL_ID_CACHE_REGION).gauge())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Hibernate Cache Manager - Update timestamps region never expires")
+    void testHibernateCacheManager_TimestampsRegion() {
+        // When
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> timestamps = cacheManager
+                .getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)
+                .getConfiguration(CaffeineConfiguration.class);
+
+        // Then
+        assertThat(timestamps.getMaximumSize()).isEmpty();
+        assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package edu.employeemanagement.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource - Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.releasePrimary();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Read-only transaction goes to the replica")
+    void testGetConnection_ReadOnlyUsesReplica() throws SQLException {
+        // Given
+        Connection replicaConnection = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(replicaConnection);
+        assertThat(meterRegistry.get("employees.datasource.connections").tag("pool", "replica-1").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Get Connection - Read-your-writes keeps read-only transactions on the primary")
+    void testGetConnection_ReadYourWrites() throws SQLException {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.requirePrimary();
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Get Connection - Failing replica falls back to the primary and leaves rotation")
+    void testGetConnection_Failover() throws SQLException {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("employees.datasource.failover").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.datasource.replica.healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("On Primary - Routes read-only work to the primary and keeps an outer requirement")
+    void testOnPrimary() throws SQLException {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.requirePrimary();
+
+        // When
+        Connection inner = ReplicaRoutingDataSource.onPrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Connection outer = routingDataSource.getConnection();
+
+        // Then
+        assertThat(inner).isSameAs(primaryConnection);
+        assertThat(outer).isSameAs(primaryConnection);
+    }
+}
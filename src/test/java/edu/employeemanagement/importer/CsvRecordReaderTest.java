@@ -0,0 +1,88 @@
+package edu.employeemanagement.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvRecordReader - Unit Tests")
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Next - Reads quoted fields with commas, escaped quotes and line breaks")
+    void testNext_QuotedFields() throws IOException {
+        // Given
+        String csv = "name,lastname,email\r\n\"Ana, María\",\"O\"\"Neil\",ana@empresa.com\n\"Luis\nAlberto\",Pérez,luis@empresa.com";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+            // When
+            List<String> header = reader.next();
+            List<String> first = reader.next();
+            long firstLine = reader.getRecordLine();
+            List<String> second = reader.next();
+            long secondLine = reader.getRecordLine();
+
+            // Then
+            assertThat(header).containsExactly("name", "lastname", "email");
+            assertThat(first).containsExactly("Ana, María", "O\"Neil", "ana@empresa.com");
+            assertThat(firstLine).isEqualTo(2);
+            assertThat(second).containsExactly("Luis\nAlberto", "Pérez", "luis@empresa.com");
+            assertThat(secondLine).isEqualTo(3);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Next - Keeps empty fields and blank lines")
+    void testNext_EmptyFields() throws IOException {
+        // Given
+        String csv = "Ana,,\n\nLuis,Pérez,\"\"\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+            // When / Then
+            assertThat(reader.next()).containsExactly("Ana", "", "");
+            assertThat(reader.next()).containsExactly("");
+            assertThat(reader.next()).containsExactly("Luis", "Pérez", "");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Next - Truncates an unterminated quoted field instead of buffering the file")
+    void testNext_UnterminatedQuote() throws IOException {
+        // Given
+        String csv = "\"" + "x".repeat(CsvRecordReader.MAX_FIELD_LENGTH * 3);
+
+        try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+            // When
+            List<String> record = reader.next();
+
+            // Then
+            assertThat(record).hasSize(1);
+            assertThat(record.getFirst()).hasSize(CsvRecordReader.MAX_FIELD_LENGTH);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Next - Keeps at most MAX_FIELDS columns of a record")
+    void testNext_TooManyColumns() throws IOException {
+        // Given
+        String csv = "Ana,Pérez,ana@empresa.com" + ",".repeat(100_000) + "\nLuis,Pérez,luis@empresa.com\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+            // When
+            List<String> record = reader.next();
+
+            // Then
+            assertThat(record).hasSize(CsvRecordReader.MAX_FIELDS);
+            assertThat(record).startsWith("Ana", "Pérez", "ana@empresa.com");
+            assertThat(reader.next()).containsExactly("Luis", "Pérez", "luis@empresa.com");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package edu.employeemanagement.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter - Unit Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Never returns false negatives")
+    void testMightContain_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("employee" + i + "@exampletest.com"));
+
+        // When & Then
+        assertThat(IntStream.range(0, 10_000))
+                .allMatch(i -> filter.mightContain("employee" + i + "@exampletest.com"));
+    }
+
+    @Test
+    @DisplayName("False positive rate stays close to the configured probability")
+    void testMightContain_FalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("employee" + i + "@exampletest.com"));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other" + i + "@exampletest.com"))
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
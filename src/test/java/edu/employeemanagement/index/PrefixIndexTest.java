@@ -0,0 +1,81 @@
+package edu.employeemanagement.index;
+
+import edu.employeemanagement.domain.dto.response.EmployeeSuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixIndex - Unit Tests")
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex();
+        index.put(new EmployeeSuggestionDTO(1L, "Saul", "Echeverri", "saul@exampletest.com"));
+        index.put(new EmployeeSuggestionDTO(2L, "Sara", "Vasquez", "svasquez@exampletest.com"));
+        index.put(new EmployeeSuggestionDTO(3L, "Carlos", "Salazar", "carlos@exampletest.com"));
+    }
+
+    @Test
+    @DisplayName("Search - Matches name, lastname and email prefixes without repeating employees")
+    void testSearch() {
+        // When & Then
+        assertThat(index.search("SA", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("carlos s", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(3L);
+        assertThat(index.search("sv", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(2L);
+        assertThat(index.search("sa", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Put and remove - Replace the previous keys")
+    void testPutAndRemove() {
+        // When
+        index.put(new EmployeeSuggestionDTO(1L, "Andres", "Echeverri", "andres@exampletest.com"));
+        index.remove(3L);
+
+        // Then
+        assertThat(index.search("sa", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(2L);
+        assertThat(index.search("andres", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Put - Accepts an employee whose name and lastname are the same")
+    void testPut_SameNameAndLastname() {
+        // When
+        index.put(new EmployeeSuggestionDTO(4L, "Lopez", "LOPEZ", "lopez@exampletest.com"));
+        index.remove(4L);
+        index.put(new EmployeeSuggestionDTO(4L, "Lopez", "Lopez", "lopez@exampletest.com"));
+
+        // Then
+        assertThat(index.search("lopez", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Compact - Moves changes to the sorted base and keeps later changes in the delta")
+    void testCompact() {
+        // Given
+        index.load(new EmployeeSuggestionDTO(5L, "Samuel", "Rojas", "samuel@exampletest.com"));
+
+        // When
+        index.compact();
+        index.put(new EmployeeSuggestionDTO(2L, "Beatriz", "Vasquez", "svasquez@exampletest.com"));
+
+        // Then
+        assertThat(index.search("sa", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(3L, 5L, 1L);
+        assertThat(index.search("b", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(2L);
+        assertThat(index.pendingChanges()).isEqualTo(1);
+
+        // When
+        index.compact();
+
+        // Then
+        assertThat(index.pendingChanges()).isZero();
+        assertThat(index.search("sa", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(3L, 5L, 1L);
+        assertThat(index.search("vas", 10)).extracting(EmployeeSuggestionDTO::idEmployee).containsExactly(2L);
+    }
+}
@@ -0,0 +1,82 @@
+package edu.employeemanagement.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrigramIndex - Unit Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Mariana", "Gomez");
+        index.put(2L, "Ana", "Perez");
+        index.put(3L, "Juan", "Santana");
+        index.put(4L, "Pedro", "Lopez");
+    }
+
+    @Test
+    @DisplayName("Search - Ranks exact, prefix and substring matches")
+    void testSearch_Ranking() {
+        // When & Then
+        assertThat(index.search("ANA", 0, 10)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Search - Short terms match name or lastname prefixes only")
+    void testSearch_ShortTermPrefix() {
+        // Given
+        index.put(5L, "Pe", "Ruiz");
+
+        // When & Then
+        assertThat(index.search("ez", 0, 10)).isEmpty();
+        assertThat(index.search("PE", 0, 10)).containsExactly(5L, 4L, 2L);
+        assertThat(index.search("pe", 1, 1)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Search - Pagination")
+    void testSearch_Pagination() {
+        // When & Then
+        assertThat(index.search("ana", 1, 1)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Put and remove - Keep postings up to date")
+    void testPutAndRemove() {
+        // When
+        index.put(4L, "Pedro", "Anaya");
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("lopez", 0, 10)).isEmpty();
+        assertThat(index.search("ana", 0, 10)).containsExactly(4L, 3L, 1L);
+        assertThat(index.search("lo", 0, 10)).isEmpty();
+        assertThat(index.search("an", 0, 10)).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Compact - Moves the delta to the sorted base and keeps later changes visible")
+    void testCompact() {
+        // Given
+        index.load(5L, "Susana", "Diaz");
+        index.compact();
+
+        // When
+        index.put(1L, "Mariana", "Ruiz");
+        index.remove(3L);
+
+        // Then
+        assertThat(index.search("ana", 0, 10)).containsExactly(2L, 5L, 1L);
+        assertThat(index.search("gomez", 0, 10)).isEmpty();
+        assertThat(index.search("ru", 0, 10)).containsExactly(1L);
+        assertThat(index.search("an", 0, 10)).containsExactly(2L);
+        assertThat(index.search("ana", 1, 1)).containsExactly(5L);
+    }
+}
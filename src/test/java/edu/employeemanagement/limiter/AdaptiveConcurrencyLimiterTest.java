@@ -0,0 +1,129 @@
+package edu.employeemanagement.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter - Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+    private static final long CACHE_HIT = Duration.ofNanos(50_000).toNanos();
+
+    @Test
+    @DisplayName("Acquire - Rejects once the limit is reached and admits again after a release")
+    void testTryAcquire_RejectsBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 0.2, 10, 100);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        limiter.release(FAST);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Release - Shrinks the limit when latency rises under load and grows it back when it recovers")
+    void testRelease_AdaptsToLatency() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 100, 1.5, 0.2, 10, 100);
+        saturate(limiter, FAST, 20);
+        int baseline = limiter.getLimit();
+
+        // When
+        saturate(limiter, SLOW, 1);
+        int congested = limiter.getLimit();
+
+        // Then
+        assertThat(baseline).isGreaterThanOrEqualTo(40);
+        assertThat(congested).isLessThan(baseline);
+        assertThat(congested).isGreaterThanOrEqualTo(5);
+        saturate(limiter, FAST, 20);
+        assertThat(limiter.getLimit()).isGreaterThan(congested);
+    }
+
+    @Test
+    @DisplayName("Release - Keeps the limit when less than half of it is in use")
+    void testRelease_IgnoresIdleSamples() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 100, 1.5, 0.2, 10, 100);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Release - Averages a bimodal latency mix instead of reacting to each sample")
+    void testRelease_BimodalLatency() {
+        // Given: 4 de cada 5 llamadas son aciertos en memoria y el resto consulta la BD
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 5, 400, 1.5, 0.2, 50, 600);
+        long[] mix = {CACHE_HIT, CACHE_HIT, CACHE_HIT, CACHE_HIT, FAST};
+        saturate(limiter, mix, 5);
+        int previous = limiter.getLimit();
+
+        // When & Then: con la misma mezcla el límite no retrocede
+        for (int round = 0; round < 10; round++) {
+            saturate(limiter, mix, 1);
+            assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(previous);
+            previous = limiter.getLimit();
+        }
+        assertThat(previous).isGreaterThan(40);
+    }
+
+    @Test
+    @DisplayName("Release - Calls released without a sample do not move the limit")
+    void testRelease_WithoutSample() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 1.5, 0.2, 1, 100);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release();
+            limiter.release();
+            limiter.release();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /** Llena el límite actual y libera todas las llamadas con la latencia indicada, varias veces. */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        saturate(limiter, new long[]{rttNanos}, rounds);
+    }
+
+    /** Igual que {@link #saturate(AdaptiveConcurrencyLimiter, long, int)}, alternando las latencias indicadas. */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long[] rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos[i % rttNanos.length]);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package edu.employeemanagement.limiter;
+
+import edu.employeemanagement.cache.ServedFromMemory;
+import edu.employeemanagement.config.ConcurrencyLimitProperties;
+import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.service.impl.EmployeeServiceImpl;
+import edu.employeemanagement.service.interfaces.IEmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConcurrencyLimitAspect - Unit Tests")
+class ConcurrencyLimitAspectTest {
+
+    private static final Method READ_METHOD = method("findEmployeeById", Long.class);
+    private static final Method WRITE_METHOD = method("createEmployee", EmployeeRequestDTO.class);
+
+    private final EmployeeServiceImpl target = mock(EmployeeServiceImpl.class);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Limit - Classifies methods by their @Transactional declaration")
+    void testLimit_ReadWriteClassification() throws Throwable {
+        // Given
+        ConcurrencyLimitAspect aspect = aspect(true, 1);
+        ProceedingJoinPoint read = joinPoint(READ_METHOD);
+        ProceedingJoinPoint write = joinPoint(WRITE_METHOD);
+        when(read.proceed()).thenAnswer(invocation -> new int[]{inFlight("read"), inFlight("write")});
+        when(write.proceed()).thenAnswer(invocation -> new int[]{inFlight("read"), inFlight("write")});
+
+        // When
+        int[] duringRead = (int[]) aspect.limit(read);
+        int[] duringWrite = (int[]) aspect.limit(write);
+
+        // Then
+        assertThat(duringRead).containsExactly(1, 0);
+        assertThat(duringWrite).containsExactly(0, 1);
+        assertThat(inFlight("read")).isZero();
+        assertThat(inFlight("write")).isZero();
+    }
+
+    @Test
+    @DisplayName("Limit - Rejects a call beyond the limit with 503 without affecting the other kind")
+    void testLimit_RejectsBeyondLimit() throws Throwable {
+        // Given: una escritura en curso ocupa el único lugar del límite de escrituras
+        ConcurrencyLimitAspect aspect = aspect(true, 1);
+        ProceedingJoinPoint write = joinPoint(WRITE_METHOD);
+        ProceedingJoinPoint secondWrite = joinPoint(WRITE_METHOD);
+        ProceedingJoinPoint read = joinPoint(READ_METHOD);
+        when(read.proceed()).thenReturn("read");
+        when(write.proceed()).thenAnswer(invocation -> {
+            // When
+            assertThatThrownBy(() -> aspect.limit(secondWrite)).isInstanceOf(ServiceUnavailableException.class);
+            return aspect.limit(read);
+        });
+
+        // Then
+        assertThat(aspect.limit(write)).isEqualTo("read");
+        assertThat(meterRegistry.get("employees.concurrency.rejected").tag("kind", "write").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("employees.concurrency.rejected").tag("kind", "read").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Limit - Clears the served-from-memory mark even when the limiter is disabled")
+    void testLimit_ClearsMarkWhenDisabled() throws Throwable {
+        // Given
+        ConcurrencyLimitAspect aspect = aspect(false, 1);
+        ProceedingJoinPoint read = joinPoint(READ_METHOD);
+        when(read.proceed()).thenAnswer(invocation -> {
+            ServedFromMemory.mark();
+            return null;
+        });
+
+        // When
+        aspect.limit(read);
+
+        // Then
+        assertThat(ServedFromMemory.consume()).isFalse();
+    }
+
+    private ConcurrencyLimitAspect aspect(boolean enabled, int writeLimit) {
+        return new ConcurrencyLimitAspect(new ConcurrencyLimitProperties(enabled, 10, 1, 10,
+                writeLimit, 1, writeLimit, 1.5, 0.2, 10, 100), meterRegistry);
+    }
+
+    private ProceedingJoinPoint joinPoint(Method method) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(method);
+        when(joinPoint.getTarget()).thenReturn(target);
+        return joinPoint;
+    }
+
+    private int inFlight(String kind) {
+        return (int) meterRegistry.get("employees.concurrency.in.flight").tag("kind", kind).gauge().value();
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return IEmployeeService.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package edu.employeemanagement.monitoring;
+
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.service.interfaces.IEmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static edu.employeemanagement.util.Constants.RESOURCE_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ServiceMetricsAspect - Unit Tests")
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IEmployeeService employeeService;
+    private IEmployeeService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeService = mock(IEmployeeService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(employeeService);
+        factory.addInterface(IEmployeeService.class);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Successful call - Records latency and result size")
+    void testMeasure_Success() {
+        // Given
+        when(employeeService.findAllEmployees()).thenReturn(DataDummy.employeeResponseList());
+
+        // When
+        proxy.findAllEmployees();
+
+        // Then
+        assertThat(meterRegistry.get("employees.service.invocations")
+                .tags("method", "findAllEmployees", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.service.result.size")
+                .tag("method", "findAllEmployees").summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Failed call - Counts the error by ApiException error code")
+    void testMeasure_Error() {
+        // Given
+        when(employeeService.findEmployeeById(99L)).thenThrow(new ResourceNotFoundException("no existe"));
+
+        // When & Then
+        assertThatThrownBy(() -> proxy.findEmployeeById(99L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(meterRegistry.get("employees.service.errors")
+                .tags("method", "findEmployeeById", "error.code", RESOURCE_NOT_FOUND).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employees.service.invocations")
+                .tags("method", "findEmployeeById", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+}
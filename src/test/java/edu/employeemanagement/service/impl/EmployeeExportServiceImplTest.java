@@ -0,0 +1,78 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.enums.ExportFormat;
+import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import edu.employeemanagement.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeExportServiceImpl - Unit Tests")
+class EmployeeExportServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EmployeeExportServiceImpl employeeExportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeExportService = new EmployeeExportServiceImpl(
+                employeeRepository, new EmployeeMapper(), entityManager, JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("Export Employees - CSV with header and one line per employee")
+    void testExportEmployees_Csv() {
+        // Given
+        when(employeeRepository.streamAllEmployees()).thenReturn(DataDummy.employeeList().stream());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        employeeExportService.exportEmployees(ExportFormat.CSV, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("idEmployee,name,lastname,email,createdAt,updatedAt");
+        assertThat(lines[1]).isEqualTo("1,Saultest,Echeverritest,echeverri@exampletest.com,19/02/2024 10:00:00,19/02/2024 10:00:00");
+        verify(entityManager, times(3)).detach(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Export Employees - NDJSON one object per line")
+    void testExportEmployees_Ndjson() {
+        // Given
+        when(employeeRepository.streamAllEmployees()).thenReturn(Stream.of(DataDummy.firstEmployee()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        employeeExportService.exportEmployees(ExportFormat.NDJSON, output);
+
+        // Then
+        String result = output.toString(StandardCharsets.UTF_8);
+        assertThat(result).endsWith("}\n").contains("\"email\":\"echeverri@exampletest.com\"")
+                .contains("\"createdAt\":\"19/02/2024 10:00:00\"");
+    }
+}
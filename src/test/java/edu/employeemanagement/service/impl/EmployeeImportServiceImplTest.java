@@ -0,0 +1,246 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.config.ImportProperties;
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.ImportJobDTO;
+import edu.employeemanagement.domain.entity.EmployeeImportJob;
+import edu.employeemanagement.domain.enums.BatchItemStatus;
+import edu.employeemanagement.domain.enums.ImportJobStatus;
+import edu.employeemanagement.exception.BadRequestException;
+import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.repository.EmployeeImportJobRepository;
+import edu.employeemanagement.service.interfaces.IEmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmployeeImportServiceImpl - Unit Tests")
+class EmployeeImportServiceImplTest {
+
+    private static final String DUPLICATE_EMAIL = "repetido@empresa.com";
+
+    @TempDir
+    private Path directory;
+
+    private IEmployeeService employeeService;
+    private EmployeeImportJobRepository jobRepository;
+    private EmployeeImportServiceImpl employeeImportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(IEmployeeService.class);
+        // Simula el lote real: rechaza el email ya registrado y crea el resto
+        when(employeeService.createEmployeesBatch(anyList())).thenAnswer(invocation -> batchResults(invocation.getArgument(0)));
+        jobRepository = mock(EmployeeImportJobRepository.class);
+        when(jobRepository.start(any(), any(), any())).thenReturn(1);
+        when(jobRepository.checkpoint(any(), any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(1);
+        when(jobRepository.finish(any(), any(), any(), any(), any())).thenReturn(1);
+        employeeImportService = new EmployeeImportServiceImpl(employeeService, jobRepository,
+                mock(PlatformTransactionManager.class),
+                new ImportProperties(directory, 2, 1, 1, Duration.ofHours(1), "-", Duration.ofMinutes(5),
+                        Duration.ofMinutes(1), Duration.ofMillis(10)),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeImportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Submit import - Commits in chunks and reports rejected rows with their line")
+    void testSubmitImport() throws IOException {
+        // Given
+        String csv = """
+                email,name,lastname
+                ana@empresa.com,Ana,Gómez
+                %s,Luis,Pérez
+
+                eva@empresa.com,Eva,"Ruiz, Díaz"
+                """.formatted(DUPLICATE_EMAIL);
+
+        // When
+        ImportJobDTO submitted = employeeImportService.submitImport(csvFile(csv));
+        UUID id = submitted.id();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                verify(jobRepository).finish(eq(id), any(), eq(ImportJobStatus.COMPLETED), isNull(), any()));
+
+        // Then
+        assertThat(submitted.status()).isEqualTo(ImportJobStatus.QUEUED);
+        verify(jobRepository).save(any(EmployeeImportJob.class));
+        verify(employeeService, times(2)).createEmployeesBatch(anyList());
+        // El avance de cada porción se registra con sus filas: la última termina en la línea 5
+        verify(jobRepository).checkpoint(eq(id), any(), anyLong(), eq(3L), anyLong(), eq(2L), eq(1L), eq(1L), any());
+        verify(jobRepository).checkpoint(eq(id), any(), anyLong(), eq(5L), anyLong(), eq(3L), eq(2L), eq(1L), any());
+
+        assertThat(Files.readAllLines(directory.resolve(id + "-failures.csv"), StandardCharsets.UTF_8)).containsExactly(
+                "line,status,email,message",
+                "3,DUPLICATE_EMAIL," + DUPLICATE_EMAIL + ",El email ya existe");
+        assertThat(directory.resolve(id + ".csv")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Submit import - Backs off while writes are saturated instead of aborting")
+    void testSubmitImport_BacksOffOnServiceUnavailable() {
+        // Given
+        ServiceUnavailableException saturated = new ServiceUnavailableException("saturado");
+        when(employeeService.createEmployeesBatch(anyList()))
+                .thenThrow(saturated, saturated, saturated, saturated, saturated)
+                .thenAnswer(invocation -> batchResults(invocation.getArgument(0)));
+
+        // When
+        ImportJobDTO submitted = employeeImportService.submitImport(csvFile("name,lastname,email\nAna,Gómez,ana@empresa.com\n"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                verify(jobRepository).finish(eq(submitted.id()), any(), eq(ImportJobStatus.COMPLETED), isNull(), any()));
+        verify(employeeService, times(6)).createEmployeesBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Recover abandoned jobs - Resumes after the last committed chunk")
+    void testRecoverAbandonedJobs() throws IOException {
+        // Given
+        UUID id = UUID.randomUUID();
+        Files.writeString(directory.resolve(id + ".csv"), """
+                name,lastname,email
+                Ana,Gómez,ana@empresa.com
+                Luis,Pérez,%s
+                Eva,Ruiz,eva@empresa.com
+                """.formatted(DUPLICATE_EMAIL));
+        String committedReport = "line,status,email,message" + System.lineSeparator()
+                + "3,DUPLICATE_EMAIL," + DUPLICATE_EMAIL + ",El email ya existe" + System.lineSeparator();
+        Files.writeString(directory.resolve(id + "-failures.csv"), committedReport + "4,porción sin confirmar\n");
+        LocalDateTime abandonedAt = LocalDateTime.now().minusHours(1);
+        EmployeeImportJob abandoned = EmployeeImportJob.builder()
+                .id(id)
+                .status(ImportJobStatus.RUNNING)
+                .totalBytes(100)
+                .committedLine(3)
+                .reportBytes(committedReport.getBytes(StandardCharsets.UTF_8).length)
+                .processedRows(2)
+                .createdRows(1)
+                .rejectedRows(1)
+                .submittedAt(abandonedAt)
+                .owner(UUID.randomUUID())
+                .heartbeatAt(abandonedAt)
+                .build();
+        when(jobRepository.findAbandoned(any())).thenReturn(List.of(abandoned));
+        when(jobRepository.takeOver(eq(id), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        int recovered = employeeImportService.recoverAbandonedJobs();
+
+        // Then
+        assertThat(recovered).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                verify(jobRepository).finish(eq(id), any(), eq(ImportJobStatus.COMPLETED), isNull(), any()));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmployeeRequestDTO>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(employeeService).createEmployeesBatch(chunks.capture());
+        assertThat(chunks.getValue()).extracting(EmployeeRequestDTO::getEmail).containsExactly("eva@empresa.com");
+        verify(jobRepository).checkpoint(eq(id), any(), anyLong(), eq(4L), anyLong(), eq(3L), eq(2L), eq(1L), any());
+        assertThat(Files.readString(directory.resolve(id + "-failures.csv"), StandardCharsets.UTF_8))
+                .isEqualTo(committedReport);
+        assertThat(directory.resolve(id + ".csv")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Find import job - Reads the persisted state, whichever instance runs the job")
+    void testFindImportJob() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(10);
+        when(jobRepository.findById(id)).thenReturn(Optional.of(EmployeeImportJob.builder()
+                .id(id)
+                .status(ImportJobStatus.RUNNING)
+                .fileName("employees.csv")
+                .totalBytes(200)
+                .bytesRead(50)
+                .processedRows(1000)
+                .createdRows(990)
+                .rejectedRows(10)
+                .submittedAt(startedAt)
+                .startedAt(startedAt)
+                .build()));
+
+        // When
+        ImportJobDTO job = employeeImportService.findImportJob(id.toString());
+
+        // Then
+        assertThat(job.status()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(job.progress()).isEqualTo(25);
+        assertThat(job.processedRows()).isEqualTo(1000);
+        assertThat(job.rowsPerSecond()).isBetween(90L, 100L);
+    }
+
+    @Test
+    @DisplayName("Submit import - Bad Request Exception when a required column is missing")
+    void testSubmitImport_MissingColumns() {
+        // Given
+        MockMultipartFile file = csvFile("name,email\nAna,ana@empresa.com\n");
+
+        // When / Then
+        assertThatThrownBy(() -> employeeImportService.submitImport(file))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Find import job - Not Found Exception for an unknown or malformed ID")
+    void testFindImportJob_NotFound() {
+        assertThatThrownBy(() -> employeeImportService.findImportJob("no-es-un-uuid"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> employeeImportService.findImportJob("8c3f6a7e-1d2b-4c5d-9e8f-0a1b2c3d4e5f"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static List<BatchItemResultDTO> batchResults(List<EmployeeRequestDTO> chunk) {
+        List<BatchItemResultDTO> results = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            String email = chunk.get(i).getEmail();
+            results.add(DUPLICATE_EMAIL.equals(email)
+                    ? BatchItemResultDTO.rejected(i, BatchItemStatus.DUPLICATE_EMAIL, email, "El email ya existe")
+                    : BatchItemResultDTO.created(i, DataDummy.defaultEmployeeResponseDTO()));
+        }
+        return results;
+    }
+
+    private static MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,30 +1,75 @@
 package edu.employeemanagement.service.impl;
 
+import edu.employeemanagement.cache.EmployeeCache;
+import edu.employeemanagement.cache.EmployeeReadCoalescer;
+import edu.employeemanagement.config.PaginationProperties;
+import edu.employeemanagement.config.SearchProperties;
+import edu.employeemanagement.config.SingleFlightProperties;
 import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.dto.request.EmployeeLookupRequestDTO;
 import edu.employeemanagement.domain.dto.request.EmployeeRequestDTO;
+import edu.employeemanagement.domain.dto.response.BatchItemResultDTO;
+import edu.employeemanagement.domain.dto.response.CursorPageDTO;
 import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.dto.response.LookupItemResultDTO;
+import edu.employeemanagement.domain.dto.response.UpsertResultDTO;
 import edu.employeemanagement.domain.entity.Employee;
+import edu.employeemanagement.domain.enums.BatchItemStatus;
+import edu.employeemanagement.domain.enums.LookupStatus;
 import edu.employeemanagement.domain.mapper.EmployeeMapper;
+import edu.employeemanagement.domain.projection.DeletedEmployeeProjection;
+import edu.employeemanagement.domain.projection.EmployeeUpsertProjection;
+import edu.employeemanagement.domain.projection.EmployeeVersionProjection;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.exception.BadRequestException;
 import edu.employeemanagement.exception.DuplicateEmailException;
+import edu.employeemanagement.exception.PreconditionFailedException;
 import edu.employeemanagement.exception.ResourceNotFoundException;
+import edu.employeemanagement.exception.ServiceUnavailableException;
+import edu.employeemanagement.index.EmailIndex;
+import edu.employeemanagement.index.NameIndex;
 import edu.employeemanagement.repository.EmployeeRepository;
+import edu.employeemanagement.util.CursorCodec;
+import edu.employeemanagement.util.ETags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static edu.employeemanagement.data.DataDummy.DEFAULT_ID;
+import static edu.employeemanagement.data.DataDummy.SECOND_ID;
 import static edu.employeemanagement.data.DataDummy.employeeList;
 import static edu.employeemanagement.data.DataDummy.employeeResponseList;
 import static edu.employeemanagement.util.Constants.EMPLOYEE_NOT_FOUND;
+import static edu.employeemanagement.util.Constants.EMPLOYEE_VERSION_MISMATCH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +82,34 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    @Mock
+    private NameIndex nameIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties(2, 500);
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties(true);
+
+    @Spy
+    private EmployeeReadCoalescer readCoalescer = new EmployeeReadCoalescer(
+            new SingleFlightProperties(true, Duration.ofSeconds(5)), new SimpleMeterRegistry());
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -55,9 +128,10 @@ class EmployeeServiceImplTest {
     @DisplayName("Create Employee - Success")
     void testCreateEmployee() {
         // Given
+        when(emailIndex.mightContain(employeeRequestDTO.getEmail())).thenReturn(true);
         when(employeeRepository.existsByEmail(employeeRequestDTO.getEmail())).thenReturn(false);
         when(employeeMapper.toEntity(employeeRequestDTO)).thenReturn(employee);
-        when(employeeRepository.save(employee)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
         when(employeeMapper.toEmployeeResponseDTO(employee)).thenReturn(employeeResponseDTO);
 
         // When
@@ -65,13 +139,43 @@ class EmployeeServiceImplTest {
 
         // Then
         assertThat(result).isEqualTo(employeeResponseDTO);
-        verify(employeeRepository).save(employee);
+        verify(employeeRepository).saveAndFlush(employee);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.created(employeeResponseDTO));
+    }
+
+    @Test
+    @DisplayName("Create Employee - Email index negative skips existsByEmail")
+    void testCreateEmployee_EmailIndexNegative() {
+        // Given
+        when(emailIndex.mightContain(employeeRequestDTO.getEmail())).thenReturn(false);
+        when(employeeMapper.toEntity(employeeRequestDTO)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        when(employeeMapper.toEmployeeResponseDTO(employee)).thenReturn(employeeResponseDTO);
+
+        // When
+        employeeService.createEmployee(employeeRequestDTO);
+
+        // Then
+        verify(employeeRepository, never()).existsByEmail(employeeRequestDTO.getEmail());
+    }
+
+    @Test
+    @DisplayName("Create Employee - Unique constraint violation maps to Duplicate Email Exception")
+    void testCreateEmployee_UniqueConstraintViolation() {
+        // Given
+        when(employeeMapper.toEntity(employeeRequestDTO)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenThrow(new DataIntegrityViolationException("uk_email"));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.createEmployee(employeeRequestDTO))
+                .isInstanceOf(DuplicateEmailException.class);
     }
 
     @Test
     @DisplayName("Create Employee - Duplicate Email Exception")
     void testCreateEmployee_DuplicateEmail() {
         // Given
+        when(emailIndex.mightContain(employeeRequestDTO.getEmail())).thenReturn(true);
         when(employeeRepository.existsByEmail(employeeRequestDTO.getEmail())).thenReturn(true);
 
         // When & Then
@@ -79,22 +183,267 @@ class EmployeeServiceImplTest {
                 .isInstanceOf(DuplicateEmailException.class);
     }
 
+    @Test
+    @DisplayName("Create Employees Batch - Inserts new emails and rejects duplicates")
+    void testCreateEmployeesBatch() {
+        // Given
+        EmployeeRequestDTO existing = EmployeeRequestDTO.builder()
+                .name(DataDummy.SECOND_NAME).lastname(DataDummy.SECOND_LASTNAME).email(DataDummy.SECOND_EMAIL).build();
+        List<EmployeeRequestDTO> requests = List.of(employeeRequestDTO, existing, employeeRequestDTO);
+
+        when(emailIndex.mightContain(DataDummy.DEFAULT_EMAIL)).thenReturn(true);
+        when(emailIndex.mightContain(DataDummy.SECOND_EMAIL)).thenReturn(true);
+        when(employeeRepository.findExistingEmails(List.of(DataDummy.DEFAULT_EMAIL, DataDummy.SECOND_EMAIL)))
+                .thenReturn(Set.of(DataDummy.SECOND_EMAIL));
+        when(employeeMapper.toEntity(employeeRequestDTO)).thenReturn(employee);
+        when(employeeRepository.saveAllAndFlush(List.of(employee))).thenReturn(List.of(employee));
+        when(employeeMapper.toEmployeeResponseDTO(employee)).thenReturn(employeeResponseDTO);
+
+        // When
+        List<BatchItemResultDTO> results = employeeService.createEmployeesBatch(requests);
+
+        // Then
+        assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(
+                BatchItemStatus.CREATED, BatchItemStatus.DUPLICATE_EMAIL, BatchItemStatus.DUPLICATE_EMAIL);
+        assertThat(results.getFirst().employee()).isEqualTo(employeeResponseDTO);
+    }
+
+    @Test
+    @DisplayName("Create Employees Batch - Verifies every email when the index missed a duplicate")
+    void testCreateEmployeesBatchIndexMiss() {
+        // Given
+        EmployeeRequestDTO existing = EmployeeRequestDTO.builder()
+                .name(DataDummy.SECOND_NAME).lastname(DataDummy.SECOND_LASTNAME).email(DataDummy.SECOND_EMAIL).build();
+        Employee existingEmployee = mock(Employee.class);
+        List<EmployeeRequestDTO> requests = List.of(employeeRequestDTO, existing);
+
+        when(emailIndex.mightContain(any())).thenReturn(false);
+        when(employeeMapper.toEntity(employeeRequestDTO)).thenReturn(employee);
+        when(employeeMapper.toEntity(existing)).thenReturn(existingEmployee);
+        when(employeeRepository.saveAllAndFlush(List.of(employee, existingEmployee)))
+                .thenThrow(new DataIntegrityViolationException("employees_email_key"));
+        when(employeeRepository.findExistingEmails(List.of(DataDummy.DEFAULT_EMAIL, DataDummy.SECOND_EMAIL)))
+                .thenReturn(Set.of(DataDummy.SECOND_EMAIL));
+        when(employeeRepository.saveAllAndFlush(List.of(employee))).thenReturn(List.of(employee));
+        when(employeeMapper.toEmployeeResponseDTO(employee)).thenReturn(employeeResponseDTO);
+
+        // When
+        List<BatchItemResultDTO> results = employeeService.createEmployeesBatch(requests);
+
+        // Then
+        assertThat(results).extracting(BatchItemResultDTO::status)
+                .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.DUPLICATE_EMAIL);
+        verify(emailIndex).add(DataDummy.SECOND_EMAIL);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Create Employees Batch - Empty batch Exception")
+    void testCreateEmployeesBatch_Empty() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.createEmployeesBatch(List.of()))
+                .isInstanceOf(BadRequestException.class);
+        verify(employeeRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("Upsert Employee By Email - New email is created in one statement")
+    void testUpsertEmployeeByEmail_Created() {
+        // Given
+        EmployeeUpsertProjection row = mock(EmployeeUpsertProjection.class);
+        when(row.getInserted()).thenReturn(true);
+        when(employeeRepository.upsertByEmail(eq(employeeRequestDTO.getName()), eq(employeeRequestDTO.getLastname()),
+                eq(employeeRequestDTO.getEmail()), any(LocalDateTime.class))).thenReturn(row);
+        when(employeeMapper.toEmployeeResponseDTO(row)).thenReturn(employeeResponseDTO);
+
+        // When
+        UpsertResultDTO result = employeeService.upsertEmployeeByEmail(employeeRequestDTO.getEmail(), employeeRequestDTO);
+
+        // Then
+        assertThat(result.created()).isTrue();
+        assertThat(result.employee()).isEqualTo(employeeResponseDTO);
+        verify(employeeRepository, never()).existsByEmail(employeeRequestDTO.getEmail());
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.created(employeeResponseDTO));
+    }
+
+    @Test
+    @DisplayName("Upsert Employee By Email - Body email must match the path")
+    void testUpsertEmployeeByEmail_EmailMismatch() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.upsertEmployeeByEmail("otro@exampletest.com", employeeRequestDTO))
+                .isInstanceOf(BadRequestException.class);
+        verify(employeeRepository, never()).upsertByEmail(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Upsert Employees Batch - Reports created, updated and in-batch duplicates")
+    void testUpsertEmployeesBatch() {
+        // Given
+        EmployeeRequestDTO existing = EmployeeRequestDTO.builder()
+                .name(DataDummy.SECOND_NAME).lastname(DataDummy.SECOND_LASTNAME).email(DataDummy.SECOND_EMAIL).build();
+        EmployeeResponseDTO existingResponse = employeeResponseList().get(1);
+        EmployeeUpsertProjection insertedRow = mock(EmployeeUpsertProjection.class);
+        EmployeeUpsertProjection updatedRow = mock(EmployeeUpsertProjection.class);
+        when(insertedRow.getInserted()).thenReturn(true);
+        when(updatedRow.getInserted()).thenReturn(false);
+        when(employeeRepository.upsertByEmail(any(), any(), eq(DataDummy.DEFAULT_EMAIL), any())).thenReturn(insertedRow);
+        when(employeeRepository.upsertByEmail(any(), any(), eq(DataDummy.SECOND_EMAIL), any())).thenReturn(updatedRow);
+        when(employeeMapper.toEmployeeResponseDTO(insertedRow)).thenReturn(employeeResponseDTO);
+        when(employeeMapper.toEmployeeResponseDTO(updatedRow)).thenReturn(existingResponse);
+
+        // When
+        List<BatchItemResultDTO> results = employeeService.upsertEmployeesBatch(
+                List.of(employeeRequestDTO, existing, employeeRequestDTO));
+
+        // Then
+        assertThat(results).extracting(BatchItemResultDTO::status).containsExactly(
+                BatchItemStatus.CREATED, BatchItemStatus.UPDATED, BatchItemStatus.DUPLICATE_EMAIL);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(existingResponse));
+    }
+
+    @Test
+    @DisplayName("Lookup Employees - Serves cache hits, queries misses and keeps request order")
+    void testLookupEmployees() {
+        // Given
+        List<EmployeeResponseDTO> dtos = employeeResponseList();
+        EmployeeLookupRequestDTO request = EmployeeLookupRequestDTO.builder()
+                .ids(List.of(SECOND_ID, 99L, DEFAULT_ID))
+                .emails(List.of(DataDummy.THIRD_EMAIL, "nadie@exampletest.com"))
+                .build();
+        when(employeeCache.getById(DEFAULT_ID)).thenReturn(Optional.of(dtos.get(0)));
+        when(employeeCache.getById(SECOND_ID)).thenReturn(Optional.empty());
+        when(employeeCache.getById(99L)).thenReturn(Optional.empty());
+        when(employeeCache.getByEmail(any())).thenReturn(Optional.empty());
+        when(employeeRepository.findResponsesByIdIn(List.of(SECOND_ID, 99L))).thenReturn(List.of(dtos.get(1)));
+        when(employeeRepository.findResponsesByEmailIn(List.of(DataDummy.THIRD_EMAIL, "nadie@exampletest.com")))
+                .thenReturn(List.of(dtos.get(2)));
+
+        // When
+        List<LookupItemResultDTO> results = employeeService.lookupEmployees(request);
+
+        // Then
+        assertThat(results).extracting(LookupItemResultDTO::status).containsExactly(
+                LookupStatus.FOUND, LookupStatus.NOT_FOUND, LookupStatus.FOUND, LookupStatus.FOUND, LookupStatus.NOT_FOUND);
+        assertThat(results).extracting(LookupItemResultDTO::employee)
+                .containsExactly(dtos.get(1), null, dtos.get(0), dtos.get(2), null);
+        verify(employeeCache).putIfNotInvalidated(eq(dtos.get(1)), eq(SECOND_ID), anyLong());
+    }
+
+    @Test
+    @DisplayName("Lookup Employees - Empty request Exception")
+    void testLookupEmployees_Empty() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.lookupEmployees(new EmployeeLookupRequestDTO()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     @DisplayName("Find All Employees - Success")
     void testFindAllEmployees() {
         // Given
-        List<Employee> entities = employeeList();
         List<EmployeeResponseDTO> dtos = employeeResponseList();
 
-        when(employeeRepository.findAll()).thenReturn(entities);
-        when(employeeMapper.toEmployeeResponseList(entities)).thenReturn(dtos);
+        when(employeeRepository.findAllResponses()).thenReturn(dtos);
 
         // When
         List<EmployeeResponseDTO> result = employeeService.findAllEmployees();
 
         // Then
         assertThat(result).hasSize(3).isEqualTo(dtos);
-        verify(employeeRepository).findAll();
+        verify(employeeRepository, never()).findAll();
+        verify(employeeMapper, never()).toEmployeeResponseList(anyList());
+    }
+
+    @Test
+    @DisplayName("Find Employees Page - Returns next cursor when more rows exist")
+    void testFindEmployeesPage_HasNext() {
+        // Given
+        when(employeeRepository.findResponsesAfterId(0L, Limit.of(3))).thenReturn(employeeResponseList());
+
+        // When
+        CursorPageDTO<EmployeeResponseDTO> result = employeeService.findEmployeesPage(null, null);
+
+        // Then
+        assertThat(result.content()).hasSize(2);
+        assertThat(CursorCodec.decode(result.nextCursor())).isEqualTo(DataDummy.SECOND_ID);
+    }
+
+    @Test
+    @DisplayName("Find Employees Page - Last page has no cursor")
+    void testFindEmployeesPage_LastPage() {
+        // Given
+        String cursor = CursorCodec.encode(DataDummy.SECOND_ID);
+
+        when(employeeRepository.findResponsesAfterId(DataDummy.SECOND_ID, Limit.of(3)))
+                .thenReturn(employeeResponseList().subList(2, 3));
+
+        // When
+        CursorPageDTO<EmployeeResponseDTO> result = employeeService.findEmployeesPage(cursor, 2);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Find Employees Page - Invalid cursor Exception")
+    void testFindEmployeesPage_InvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.findEmployeesPage("not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Search Employees - Uses the name index in relevance order")
+    void testSearchEmployees_NameIndex() {
+        // Given
+        List<EmployeeResponseDTO> dtos = employeeResponseList();
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.search("test", 0, 3)).thenReturn(List.of(SECOND_ID, DEFAULT_ID));
+        when(employeeRepository.findResponsesByIdIn(List.of(SECOND_ID, DEFAULT_ID))).thenReturn(dtos.subList(0, 2));
+
+        // When
+        CursorPageDTO<EmployeeResponseDTO> result = employeeService.searchEmployees(" test ", null, null);
+
+        // Then
+        assertThat(result.content()).containsExactly(dtos.get(1), dtos.get(0));
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Search Employees - Falls back to JPQL while the index is warming up")
+    void testSearchEmployees_Fallback() {
+        // Given
+        when(nameIndex.isReady()).thenReturn(false);
+        when(employeeRepository.searchResponsesOrderById("test", Limit.of(3))).thenReturn(employeeResponseList());
+
+        // When
+        CursorPageDTO<EmployeeResponseDTO> result = employeeService.searchEmployees("test", null, null);
+
+        // Then
+        assertThat(result.content()).hasSize(2);
+        assertThat(CursorCodec.decodeOffset(result.nextCursor())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Search Employees - Service Unavailable while the index is warming up and fallback is off")
+    void testSearchEmployees_IndexNotReady() {
+        // Given
+        when(nameIndex.isReady()).thenReturn(false);
+        when(searchProperties.fallbackToDatabase()).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.searchEmployees("test", null, null))
+                .isInstanceOf(ServiceUnavailableException.class);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Search Employees - Blank term Exception")
+    void testSearchEmployees_BlankTerm() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.searchEmployees(" ", null, null))
+                .isInstanceOf(BadRequestException.class);
     }
 
     @Test
@@ -110,6 +459,21 @@ class EmployeeServiceImplTest {
         // Then
         assertThat(result).isEqualTo(employeeResponseDTO);
         verify(employeeRepository).findById(employee.getIdEmployee());
+        verify(employeeCache).putIfNotInvalidated(eq(employeeResponseDTO), eq(employee.getIdEmployee()), anyLong());
+    }
+
+    @Test
+    @DisplayName("Find Employee By Id - Cache hit skips the repository")
+    void testFindEmployeeById_CacheHit() {
+        // Given
+        when(employeeCache.getById(employee.getIdEmployee())).thenReturn(Optional.of(employeeResponseDTO));
+
+        // When
+        EmployeeResponseDTO result = employeeService.findEmployeeById(employee.getIdEmployee());
+
+        // Then
+        assertThat(result).isEqualTo(employeeResponseDTO);
+        verify(employeeRepository, never()).findById(employee.getIdEmployee());
     }
 
     @Test
@@ -125,6 +489,48 @@ class EmployeeServiceImplTest {
                 .hasMessageContaining(String.format(EMPLOYEE_NOT_FOUND, idNotFound));
     }
 
+    @Test
+    @DisplayName("Find Employee ETag - Cache hit skips the repository")
+    void testFindEmployeeETag_CacheHit() {
+        // Given
+        when(employeeCache.getById(employee.getIdEmployee())).thenReturn(Optional.of(employeeResponseDTO));
+
+        // When
+        String result = employeeService.findEmployeeETag(employee.getIdEmployee());
+
+        // Then
+        assertThat(result).isEqualTo(ETags.forEmployee(employeeResponseDTO));
+        verify(employeeRepository, never()).findVersionById(employee.getIdEmployee());
+    }
+
+    @Test
+    @DisplayName("Find Employee ETag - Reads only the version from the repository")
+    void testFindEmployeeETag_FromRepository() {
+        // Given
+        when(employeeRepository.findVersionById(DEFAULT_ID))
+                .thenReturn(Optional.of(new EmployeeVersionProjection(DEFAULT_ID, 4L)));
+
+        // When
+        String result = employeeService.findEmployeeETag(DEFAULT_ID);
+
+        // Then
+        assertThat(result).isEqualTo(ETags.forEmployee(DEFAULT_ID, 4L));
+        verify(employeeRepository, never()).findById(DEFAULT_ID);
+    }
+
+    @Test
+    @DisplayName("Find Employee ETag - Not Found Exception")
+    void testFindEmployeeETag_NotFound() {
+        // Given
+        Long idNotFound = 99L;
+        when(employeeRepository.findVersionById(idNotFound)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.findEmployeeETag(idNotFound))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(String.format(EMPLOYEE_NOT_FOUND, idNotFound));
+    }
+
     @Test
     @DisplayName("Find Employee By Email - Success")
     void testFindEmployeeByEmail() {
@@ -155,47 +561,103 @@ class EmployeeServiceImplTest {
     @DisplayName("Update Employee - Success")
     void testUpdateEmployee() {
         // Given
-        when(employeeRepository.findById(employee.getIdEmployee())).thenReturn(Optional.of(employee));
-        when(employeeRepository.save(employee)).thenReturn(employee);
-        when(employeeMapper.toEmployeeResponseDTO(employee)).thenReturn(employeeResponseDTO);
+        when(employeeRepository.updateEmployee(eq(DEFAULT_ID), eq(employeeRequestDTO.getName()),
+                eq(employeeRequestDTO.getLastname()), eq(employeeRequestDTO.getEmail()), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(Optional.of("anterior@empresa.com"));
+        when(employeeRepository.findResponseById(DEFAULT_ID)).thenReturn(Optional.of(employeeResponseDTO));
 
         // When
-        EmployeeResponseDTO result = employeeService.updateEmployee(employee.getIdEmployee(), employeeRequestDTO);
+        EmployeeResponseDTO result = employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of(3L));
 
         // Then
         assertThat(result).isEqualTo(employeeResponseDTO);
-        verify(employeeRepository).save(employee);
+        verify(employeeRepository, never()).findById(DEFAULT_ID);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.updated(employeeResponseDTO, "anterior@empresa.com"));
     }
 
     @Test
     @DisplayName("Update Employee - Not Found Exception")
     void testUpdateEmployee_NotFound() {
         // Given
-        when(employeeRepository.findById(employee.getIdEmployee())).thenReturn(Optional.empty());
+        when(employeeRepository.updateEmployee(eq(DEFAULT_ID), any(), any(), any(), any(), eq(3L))).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(DEFAULT_ID)).thenReturn(false);
 
         // When & Then
-        assertThatThrownBy(() -> employeeService.updateEmployee(employee.getIdEmployee(), employeeRequestDTO))
+        assertThatThrownBy(() -> employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of(3L)))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Update Employee - Stale version Precondition Failed Exception")
+    void testUpdateEmployee_VersionMismatch() {
+        // Given
+        when(employeeRepository.updateEmployee(eq(DEFAULT_ID), any(), any(), any(), any(), eq(3L))).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(DEFAULT_ID)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of(3L)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining(String.format(EMPLOYEE_VERSION_MISMATCH, DEFAULT_ID));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Update Employee - If-Match list matches any of its versions")
+    void testUpdateEmployee_VersionList() {
+        // Given
+        when(employeeRepository.findVersionById(DEFAULT_ID)).thenReturn(Optional.of(new EmployeeVersionProjection(DEFAULT_ID, 4L)));
+        when(employeeRepository.updateEmployee(eq(DEFAULT_ID), any(), any(), any(), any(), eq(4L)))
+                .thenReturn(Optional.of("anterior@empresa.com"));
+        when(employeeRepository.findResponseById(DEFAULT_ID)).thenReturn(Optional.of(employeeResponseDTO));
+
+        // When
+        EmployeeResponseDTO result = employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of(3L, 4L));
+
+        // Then
+        assertThat(result).isEqualTo(employeeResponseDTO);
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of(1L, 2L)))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, Set.of()))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    @DisplayName("Update Employee - Unique email violation maps to Duplicate Email Exception")
+    void testUpdateEmployee_DuplicateEmail() {
+        // Given
+        when(employeeRepository.updateEmployee(eq(DEFAULT_ID), any(), any(), any(), any(), isNull()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.updateEmployee(DEFAULT_ID, employeeRequestDTO, null))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+
     @Test
     @DisplayName("Delete Employee By Id - Success")
     void testDeleteEmployeeById() {
         // Given
-        when(employeeRepository.findById(employee.getIdEmployee())).thenReturn(Optional.of(employee));
+        DeletedEmployeeProjection deleted = mock(DeletedEmployeeProjection.class);
+        when(deleted.getEmail()).thenReturn(employee.getEmail());
+        when(deleted.getCreatedAt()).thenReturn(employee.getCreatedAt());
+        when(employeeRepository.deleteEmployeeById(eq(DEFAULT_ID), any(LocalDateTime.class))).thenReturn(Optional.of(deleted));
 
         // When
-        employeeService.deleteEmployeeById(employee.getIdEmployee());
+        employeeService.deleteEmployeeById(DEFAULT_ID);
 
         // Then
-        verify(employeeRepository).delete(employee);
+        verify(employeeRepository, never()).findById(DEFAULT_ID);
+        verify(eventPublisher).publishEvent(
+                EmployeeChangedEvent.deleted(DEFAULT_ID, employee.getEmail(), employee.getCreatedAt()));
     }
 
     @Test
     @DisplayName("Delete Employee By Id - Not Found Exception")
     void testDeleteEmployeeById_NotFound() {
         // Given
-        when(employeeRepository.findById(employee.getIdEmployee())).thenReturn(Optional.empty());
+        when(employeeRepository.deleteEmployeeById(eq(employee.getIdEmployee()), any(LocalDateTime.class))).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> employeeService.deleteEmployeeById(employee.getIdEmployee()))
@@ -0,0 +1,147 @@
+package edu.employeemanagement.service.impl;
+
+import edu.employeemanagement.config.ChangesProperties;
+import edu.employeemanagement.domain.dto.response.EmployeeChangesDTO;
+import edu.employeemanagement.domain.entity.EmployeeTombstone;
+import edu.employeemanagement.domain.projection.EmployeeChangeProjection;
+import edu.employeemanagement.exception.ConflictException;
+import edu.employeemanagement.repository.EmployeeRepository;
+import edu.employeemanagement.repository.EmployeeTombstoneRepository;
+import edu.employeemanagement.util.CursorCodec;
+import edu.employeemanagement.util.CursorCodec.Watermark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSyncServiceImpl - Unit Tests")
+class EmployeeSyncServiceImplTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.now().minusHours(1).withNano(0);
+    private static final long SNAPSHOT_XMIN = 200L;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeTombstoneRepository employeeTombstoneRepository;
+
+    private EmployeeSyncServiceImpl employeeSyncService;
+
+    @BeforeEach
+    void setUp() {
+        employeeSyncService = new EmployeeSyncServiceImpl(employeeRepository, employeeTombstoneRepository,
+                new ChangesProperties(2, 10, Duration.ofDays(30), "-"));
+    }
+
+    @Test
+    @DisplayName("Find Changes Since - Merges upserts and deletions in change order")
+    void testFindChangesSince_MergesInOrder() {
+        // Given
+        String since = CursorCodec.encodeWatermark(new Watermark(100L, 0L, SINCE));
+        when(employeeRepository.findSnapshotXmin()).thenReturn(SNAPSHOT_XMIN);
+        when(employeeRepository.findChangedSince(100L, 0L, SNAPSHOT_XMIN, Limit.of(3)))
+                .thenReturn(List.of(change(101L, 5L), change(103L, 7L)));
+        when(employeeTombstoneRepository.findDeletedSince(100L, 0L, SNAPSHOT_XMIN, Limit.of(3)))
+                .thenReturn(List.of(new EmployeeTombstone(3L, SINCE.plusSeconds(2), 102L)));
+
+        // When
+        EmployeeChangesDTO changes = employeeSyncService.findChangesSince(since, null);
+
+        // Then
+        assertThat(changes.upserts()).extracting("idEmployee").containsExactly(5L);
+        assertThat(changes.deletions()).extracting("idEmployee").containsExactly(3L);
+        assertThat(changes.hasMore()).isTrue();
+        Watermark next = CursorCodec.decodeWatermark(changes.nextWatermark());
+        assertThat(next.changeXid()).isEqualTo(102L);
+        assertThat(next.idEmployee()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Find Changes Since - Initial sync skips deletions and advances the watermark to the snapshot xmin")
+    void testFindChangesSince_InitialSync() {
+        // Given
+        when(employeeRepository.findSnapshotXmin()).thenReturn(SNAPSHOT_XMIN);
+        when(employeeRepository.findChangedSince(eq(0L), eq(0L), eq(SNAPSHOT_XMIN), any(Limit.class)))
+                .thenReturn(List.of());
+
+        // When
+        EmployeeChangesDTO changes = employeeSyncService.findChangesSince(null, null);
+
+        // Then
+        assertThat(changes.upserts()).isEmpty();
+        assertThat(changes.hasMore()).isFalse();
+        Watermark next = CursorCodec.decodeWatermark(changes.nextWatermark());
+        assertThat(next.changeXid()).isEqualTo(SNAPSHOT_XMIN);
+        assertThat(next.issuedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+        verifyNoInteractions(employeeTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Find Changes Since - A date starts at the first transaction that changed an employee since then")
+    void testFindChangesSince_FromDate() {
+        // Given
+        when(employeeRepository.findSnapshotXmin()).thenReturn(SNAPSHOT_XMIN);
+        when(employeeRepository.findFirstChangeXidSince(SINCE)).thenReturn(Optional.of(150L));
+        when(employeeTombstoneRepository.findFirstChangeXidSince(SINCE)).thenReturn(Optional.of(120L));
+        when(employeeRepository.findChangedSince(anyLong(), anyLong(), anyLong(), any(Limit.class))).thenReturn(List.of());
+        when(employeeTombstoneRepository.findDeletedSince(anyLong(), anyLong(), anyLong(), any(Limit.class))).thenReturn(List.of());
+
+        // When
+        employeeSyncService.findChangesSince(SINCE.toString(), null);
+
+        // Then
+        verify(employeeRepository).findChangedSince(120L, 0L, SNAPSHOT_XMIN, Limit.of(3));
+    }
+
+    @Test
+    @DisplayName("Find Changes Since - Watermark at the snapshot xmin returns no changes without querying")
+    void testFindChangesSince_UpToDate() {
+        // Given
+        String since = CursorCodec.encodeWatermark(new Watermark(SNAPSHOT_XMIN, 0L, SINCE));
+        when(employeeRepository.findSnapshotXmin()).thenReturn(SNAPSHOT_XMIN);
+
+        // When
+        EmployeeChangesDTO changes = employeeSyncService.findChangesSince(since, null);
+
+        // Then
+        assertThat(changes.upserts()).isEmpty();
+        assertThat(CursorCodec.decodeWatermark(changes.nextWatermark()).changeXid()).isEqualTo(SNAPSHOT_XMIN);
+        verifyNoInteractions(employeeTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Find Changes Since - Watermark older than retention requires full resync")
+    void testFindChangesSince_Expired() {
+        // Given
+        String since = LocalDateTime.now().minusDays(31).toString();
+
+        // When & Then
+        assertThatThrownBy(() -> employeeSyncService.findChangesSince(since, null))
+                .isInstanceOf(ConflictException.class);
+        verifyNoInteractions(employeeRepository, employeeTombstoneRepository);
+    }
+
+    private static EmployeeChangeProjection change(long changeXid, long idEmployee) {
+        return new EmployeeChangeProjection(changeXid, idEmployee, "Ana", "Ruiz", "empleado" + idEmployee + "@example.com",
+                SINCE, SINCE.plusSeconds(1), 0L);
+    }
+}
@@ -0,0 +1,106 @@
+package edu.employeemanagement.stats;
+
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.domain.dto.response.EmployeeResponseDTO;
+import edu.employeemanagement.domain.projection.EmployeeStatsRowProjection;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import edu.employeemanagement.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmployeeStatistics - Unit Tests")
+class EmployeeStatisticsTest {
+
+    private static final LocalDate HIRE_DAY = DataDummy.DEFAULT_CREATED_AT.toLocalDate();
+
+    private EmployeeRepository employeeRepository;
+    private EmployeeStatistics statistics;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new EmployeeStatistics(employeeRepository, mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Reconcile - Seeds the counters from the aggregate query")
+    void testReconcile_Seeds() {
+        // Given
+        when(employeeRepository.countByHireDateAndDomain()).thenReturn(List.of(
+                new EmployeeStatsRowProjection(HIRE_DAY, "exampletest.com", 2L),
+                new EmployeeStatsRowProjection(HIRE_DAY.plusDays(1), "empresa.com", 3L)));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertThat(statistics.isReady()).isTrue();
+        assertThat(statistics.headcount()).isEqualTo(5);
+        assertThat(statistics.hiresByDay()).isEqualTo(Map.of(HIRE_DAY, 2L, HIRE_DAY.plusDays(1), 3L));
+        assertThat(statistics.countByDomain()).isEqualTo(Map.of("exampletest.com", 2L, "empresa.com", 3L));
+    }
+
+    @Test
+    @DisplayName("Employee events - Keep the counters up to date")
+    void testOnEmployeeChanged() {
+        // Given
+        when(employeeRepository.countByHireDateAndDomain()).thenReturn(List.of());
+        statistics.reconcile();
+        EmployeeResponseDTO employee = DataDummy.defaultEmployeeResponseDTO();
+        EmployeeResponseDTO updated = DataDummy.customEmployeeResponseDTO(DataDummy.DEFAULT_ID, DataDummy.DEFAULT_NAME,
+                DataDummy.DEFAULT_LASTNAME, "echeverri@Empresa.com", DataDummy.DEFAULT_CREATED_AT, DataDummy.SECOND_UPDATED_AT);
+
+        // When
+        statistics.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+        statistics.onEmployeeChanged(EmployeeChangedEvent.updated(updated, employee.email()));
+
+        // Then
+        assertThat(statistics.headcount()).isEqualTo(1);
+        assertThat(statistics.hiresByDay()).isEqualTo(Map.of(HIRE_DAY, 1L));
+        assertThat(statistics.countByDomain()).isEqualTo(Map.of("empresa.com", 1L));
+
+        // When
+        statistics.onEmployeeChanged(EmployeeChangedEvent.deleted(updated.idEmployee(), updated.email(), updated.createdAt()));
+
+        // Then
+        assertThat(statistics.headcount()).isZero();
+        assertThat(statistics.hiresByDay()).isEmpty();
+        assertThat(statistics.countByDomain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reconcile - Corrects drift and records it")
+    void testReconcile_CorrectsDrift() {
+        // Given
+        when(employeeRepository.countByHireDateAndDomain())
+                .thenReturn(List.of(new EmployeeStatsRowProjection(HIRE_DAY, "exampletest.com", 1L)))
+                .thenReturn(List.of(new EmployeeStatsRowProjection(HIRE_DAY, "exampletest.com", 4L)));
+        statistics.reconcile();
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertThat(statistics.headcount()).isEqualTo(4);
+        assertThat(meterRegistry.get("employees.stats.drift").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Domain of - Lowercases the part after the at sign")
+    void testDomainOf() {
+        assertThat(EmployeeStatistics.domainOf("Ana@Example.COM")).isEqualTo("example.com");
+    }
+}
@@ -0,0 +1,50 @@
+package edu.employeemanagement.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChangeRingBuffer - Unit Tests")
+class ChangeRingBufferTest {
+
+    @Test
+    @DisplayName("Drain - Returns published events in order and the next sequence")
+    void testDrainTo_InOrder() {
+        // Given
+        ChangeRingBuffer<String> ringBuffer = new ChangeRingBuffer<>(4);
+        ringBuffer.publish("a");
+        ringBuffer.publish("b");
+        ringBuffer.publish("c");
+        List<ChangeRingBuffer.Entry<String>> sink = new ArrayList<>();
+
+        // When
+        long next = ringBuffer.drainTo(2, 10, sink);
+
+        // Then
+        assertThat(sink).extracting(ChangeRingBuffer.Entry::value).containsExactly("b", "c");
+        assertThat(next).isEqualTo(4);
+        assertThat(ringBuffer.drainTo(next, 10, new ArrayList<>())).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Drain - Reports a reader that was overwritten")
+    void testDrainTo_Lapped() {
+        // Given
+        ChangeRingBuffer<Integer> ringBuffer = new ChangeRingBuffer<>(3);
+        for (int i = 1; i <= 6; i++) {
+            ringBuffer.publish(i);
+        }
+
+        // When
+        long next = ringBuffer.drainTo(1, 10, new ArrayList<>());
+
+        // Then
+        assertThat(ringBuffer.capacity()).isEqualTo(4);
+        assertThat(next).isEqualTo(ChangeRingBuffer.LAPPED);
+        assertThat(ringBuffer.oldestSequence()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,153 @@
+package edu.employeemanagement.stream;
+
+import edu.employeemanagement.config.ChangeStreamProperties;
+import edu.employeemanagement.data.DataDummy;
+import edu.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("EmployeeChangeStream - Unit Tests")
+class EmployeeChangeStreamTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingEmitter emitter;
+    private EmployeeChangeStream changeStream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emitter = new RecordingEmitter();
+        changeStream = new EmployeeChangeStream(new ChangeStreamProperties(4, Duration.ofMinutes(1), 2),
+                JsonMapper.builder().build(), meterRegistry) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.gate.countDown();
+        changeStream.shutdown();
+    }
+
+    @Test
+    @DisplayName("Resume sequence - Only IDs of this instance still in the buffer can be resumed")
+    void testResolveResumeSequence() {
+        // Given: 6 eventos en un buffer de 4 (secuencias 3 a 6 disponibles)
+        for (int i = 0; i < 6; i++) {
+            publish();
+        }
+
+        // When & Then
+        assertThat(changeStream.resolveResumeSequence(null)).isEqualTo(7);
+        assertThat(changeStream.resolveResumeSequence(changeStream.eventId(4))).isEqualTo(5);
+        assertThat(changeStream.resolveResumeSequence(changeStream.eventId(6))).isEqualTo(7);
+        assertThat(changeStream.resolveResumeSequence("otra-4")).isEqualTo(-1);
+        assertThat(changeStream.resolveResumeSequence(changeStream.eventId(1))).isEqualTo(-1);
+        assertThat(changeStream.resolveResumeSequence(changeStream.eventId(9))).isEqualTo(-1);
+        assertThat(changeStream.resolveResumeSequence("sin-separador-x")).isEqualTo(-1);
+
+        // When: un cliente se reconecta con un ID que ya no está en el buffer
+        changeStream.subscribe(changeStream.eventId(1));
+
+        // Then
+        assertThat(emitter.events).singleElement().asString()
+                .contains("event:" + EmployeeChangeStream.RESET_EVENT)
+                .contains("id:" + changeStream.eventId(6));
+    }
+
+    @Test
+    @DisplayName("Drain - A subscriber lapped by the buffer is disconnected")
+    void testDrain_LappedSubscriber() {
+        // Given: el suscriptor queda bloqueado escribiendo el primer evento
+        emitter.gate = new CountDownLatch(1);
+        changeStream.subscribe(null);
+        publish();
+
+        // When: el buffer da la vuelta mientras tanto
+        for (int i = 0; i < 6; i++) {
+            publish();
+        }
+        emitter.gate.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed);
+        assertThat(meterRegistry.get("employees.stream.dropped").tag("reason", "lagging").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("employees.stream.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Drain - An event published while writing is delivered")
+    void testDrain_PublishDuringDrain() {
+        // Given: la escritura del primer evento está en curso
+        emitter.gate = new CountDownLatch(1);
+        changeStream.subscribe(null);
+        publish();
+
+        // When
+        changeStream.onEmployeeChanged(EmployeeChangedEvent.deleted(DataDummy.SECOND_ID, DataDummy.SECOND_EMAIL,
+                DataDummy.DEFAULT_CREATED_AT));
+        emitter.gate.countDown();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("event:created").contains("id:" + changeStream.eventId(1));
+        assertThat(emitter.events.get(1)).contains("event:deleted").contains("id:" + changeStream.eventId(2));
+        assertThat(emitter.completed).isFalse();
+    }
+
+    private void publish() {
+        changeStream.onEmployeeChanged(EmployeeChangedEvent.created(DataDummy.defaultEmployeeResponseDTO()));
+    }
+
+    /**
+     * Emisor que guarda el texto de cada evento; {@code gate} permite simular un cliente lento.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+}